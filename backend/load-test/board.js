@@ -0,0 +1,74 @@
+// k6 load test for the task board, run once per threading mode:
+//   k6 run -e BASE_URL=http://localhost:8083 -e MODE=platform load-test/board.js
+//   k6 run -e BASE_URL=http://localhost:8083 -e MODE=virtual load-test/board.js
+// Each run writes load-test/results-<MODE>.json with throughput and latency percentiles.
+import http from 'k6/http';
+import { check } from 'k6';
+import exec from 'k6/execution';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8083';
+const MODE = __ENV.MODE || 'platform';
+const USERS = Number(__ENV.USERS || 200);
+const VUS = Number(__ENV.VUS || 1000);
+
+export const options = {
+  scenarios: {
+    board: {
+      executor: 'ramping-vus',
+      startVUs: 0,
+      stages: [
+        { duration: '30s', target: VUS },
+        { duration: '2m', target: VUS },
+        { duration: '15s', target: 0 },
+      ],
+    },
+  },
+  summaryTrendStats: ['avg', 'p(50)', 'p(95)', 'p(99)', 'max'],
+  thresholds: {
+    http_req_failed: ['rate<0.01'],
+  },
+};
+
+function userId(n) {
+  return `00000000-0000-4000-8000-${String(n).padStart(12, '0')}`;
+}
+
+export function setup() {
+  const ids = [];
+  for (let u = 0; u < USERS; u++) {
+    const headers = { 'Content-Type': 'application/json', 'X-USER-ID': userId(u) };
+    const res = http.post(`${BASE_URL}/api/tasks`,
+      JSON.stringify({ title: `Load task ${u}`, description: 'k6', status: 'TODO', order: 100 }), { headers });
+    ids.push(res.json('data.id'));
+  }
+  return { ids };
+}
+
+export default function (data) {
+  const u = exec.vu.idInTest % USERS;
+  const headers = { 'Content-Type': 'application/json', 'X-USER-ID': userId(u) };
+  if (Math.random() < 0.9) {
+    const res = http.get(`${BASE_URL}/api/tasks`, { headers, tags: { op: 'board' } });
+    check(res, { 'board 200': (r) => r.status === 200 });
+  } else {
+    const status = ['TODO', 'DOING', 'DONE'][Math.floor(Math.random() * 3)];
+    const res = http.patch(`${BASE_URL}/api/tasks/${data.ids[u]}/status`, JSON.stringify({ status }),
+      { headers, tags: { op: 'status' } });
+    check(res, { 'status 200': (r) => r.status === 200 });
+  }
+}
+
+export function handleSummary(data) {
+  const duration = data.metrics.http_req_duration.values;
+  const result = {
+    mode: MODE,
+    vus: VUS,
+    requestsPerSecond: data.metrics.http_reqs.values.rate,
+    failedRate: data.metrics.http_req_failed.values.rate,
+    latencyMs: { p50: duration['p(50)'], p95: duration['p(95)'], p99: duration['p(99)'], max: duration.max },
+  };
+  return {
+    stdout: JSON.stringify(result, null, 2) + '\n',
+    [`load-test/results-${MODE}.json`]: JSON.stringify(result, null, 2),
+  };
+}
@@ -0,0 +1,43 @@
+package com.taskmanager.benchmark;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+/**
+ * Deterministic fixtures shared by the benchmark suites.
+ */
+final class BenchmarkTasks {
+
+	private static final TaskStatus[] STATUSES = TaskStatus.values();
+	private static final Instant NOW = Instant.parse("2026-01-01T00:00:00Z");
+
+	private BenchmarkTasks() {
+	}
+
+	static Task task(UUID userId, int i) {
+		return Task.builder().id((long) i).userId(userId).title("Task " + i)
+				.description("Description of task " + i + " with a few more words to look realistic")
+				.status(STATUSES[i % STATUSES.length]).createdAt(NOW).updatedAt(NOW).order(i * 100L).version(1L)
+				.build();
+	}
+
+	static TaskUpsertRequest request(int i) {
+		return new TaskUpsertRequest("Task " + i, "Description of task " + i, STATUSES[i % STATUSES.length],
+				i * 100L);
+	}
+
+	static List<TaskResponse> responses(int count) {
+		UUID userId = UUID.randomUUID();
+		return IntStream.range(0, count).mapToObj(i -> task(userId, i))
+				.map(t -> new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(),
+						t.getCreatedAt(), t.getUpdatedAt(), t.getOrder(), t.getVersion()))
+				.toList();
+	}
+}
@@ -0,0 +1,55 @@
+package com.taskmanager.benchmark;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.json.JsonMapper;
+import com.taskmanager.common.response.ApiMessage;
+import com.taskmanager.common.response.ApiResponse;
+import com.taskmanager.common.response.MessageType;
+import com.taskmanager.task.dto.TaskResponse;
+
+/**
+ * Jackson cost of the board payload, configured like the application's mapper.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class BoardSerializationBenchmark {
+
+	@Param({ "10", "1000", "100000" })
+	public int tasks;
+
+	private ObjectMapper objectMapper;
+	private ApiResponse<List<TaskResponse>> board;
+
+	@Setup
+	public void setUp() {
+		objectMapper = JsonMapper.builder().findAndAddModules()
+				.disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS).build();
+		board = new ApiResponse<>(BenchmarkTasks.responses(tasks), ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS);
+	}
+
+	@Benchmark
+	public byte[] serializeBoard() throws JsonProcessingException {
+		return objectMapper.writeValueAsBytes(board);
+	}
+}
@@ -0,0 +1,103 @@
+package com.taskmanager.benchmark;
+
+import java.time.LocalDateTime;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+
+import com.taskmanager.common.exception.GlobalExceptionHandler;
+import com.taskmanager.common.exception.ResourceNotFoundException;
+import com.taskmanager.common.response.ApiError;
+import com.taskmanager.common.response.ApiMessage;
+import com.taskmanager.common.response.MessageType;
+
+import ch.qos.logback.classic.Level;
+
+/**
+ * A 404 from throw to response body, thrown {@code depth} frames below the
+ * catch (a Spring MVC request is ~100 deep). {@code legacy} is the handler as
+ * it was before: a stack-traced exception with a formatted message, a fresh
+ * {@link ApiError} and timestamp, and a warning per error. Loggers keep WARN
+ * enabled but have no appenders, so logging costs the call, not the I/O.
+ * Run with {@code -prof gc} to compare {@code gc.alloc.rate.norm}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ErrorPathBenchmark {
+
+	private static final Logger log = LoggerFactory.getLogger(ErrorPathBenchmark.class);
+
+	@Param({ "10", "100" })
+	public int depth;
+
+	private final GlobalExceptionHandler handler = new GlobalExceptionHandler();
+	private long taskId = 42;
+
+	@Setup
+	public void setUp() {
+		var root = (ch.qos.logback.classic.Logger) LoggerFactory.getLogger(Logger.ROOT_LOGGER_NAME);
+		root.detachAndStopAllAppenders();
+		root.setLevel(Level.WARN);
+	}
+
+	@Benchmark
+	public ResponseEntity<ApiError> legacy() {
+		try {
+			return throwLegacy(depth);
+		} catch (LegacyNotFoundException ex) {
+			log.warn("{}", ex.getMessage());
+			return ResponseEntity.status(HttpStatus.NOT_FOUND)
+					.body(new ApiError(ex.getMessage(), null, LocalDateTime.now(), MessageType.ERROR));
+		}
+	}
+
+	@Benchmark
+	public ResponseEntity<ApiError> current() {
+		try {
+			return throwCurrent(depth);
+		} catch (ResourceNotFoundException ex) {
+			return handler.handleNotFound(ex);
+		}
+	}
+
+	private ResponseEntity<ApiError> throwLegacy(int frames) {
+		if (frames > 0) {
+			return throwLegacy(frames - 1);
+		}
+		throw new LegacyNotFoundException(String.format("%s %d", ApiMessage.TASK_NOT_FOUND, taskId));
+	}
+
+	private ResponseEntity<ApiError> throwCurrent(int frames) {
+		if (frames > 0) {
+			return throwCurrent(frames - 1);
+		}
+		throw new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId);
+	}
+
+	private static class LegacyNotFoundException extends RuntimeException {
+
+		private static final long serialVersionUID = 1L;
+
+		LegacyNotFoundException(String message) {
+			super(message);
+		}
+	}
+}
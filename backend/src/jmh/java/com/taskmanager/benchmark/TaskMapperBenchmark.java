@@ -0,0 +1,50 @@
+package com.taskmanager.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+import com.taskmanager.task.mapper.TaskMapper;
+import com.taskmanager.task.mapper.TaskMapperImpl;
+
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TaskMapperBenchmark {
+
+	private final TaskMapper mapper = new TaskMapperImpl();
+	private Task task;
+	private TaskUpsertRequest request;
+
+	@Setup
+	public void setUp() {
+		task = BenchmarkTasks.task(UUID.randomUUID(), 42);
+		request = BenchmarkTasks.request(42);
+	}
+
+	@Benchmark
+	public TaskResponse toResponse() {
+		return mapper.toResponse(task);
+	}
+
+	@Benchmark
+	public Task toEntity() {
+		return mapper.toEntity(request);
+	}
+}
@@ -0,0 +1,125 @@
+package com.taskmanager.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.springframework.boot.WebApplicationType;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import com.taskmanager.WorkflowManagerApplication;
+import com.taskmanager.task.application.TaskService;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskBatchAction;
+import com.taskmanager.task.dto.TaskBatchOperation;
+import com.taskmanager.task.dto.TaskPage;
+import com.taskmanager.task.dto.TaskResponse;
+
+/**
+ * TaskService against a real database, without the web layer or the board
+ * cache. Runs on in-memory H2 by default; point it at PostgreSQL with
+ * {@code -Dbenchmark.jdbc.url=jdbc:postgresql://...} (plus
+ * {@code benchmark.jdbc.username/password}), which is required for the
+ * {@code SINGLE_STATEMENT} status update mode:
+ * {@code -Djmh.args="TaskServiceBenchmark -p statusUpdateMode=LOAD_AND_SAVE,SINGLE_STATEMENT"}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class TaskServiceBenchmark {
+
+	@Param({ "1000" })
+	public int tasks;
+
+	@Param({ "LOAD_AND_SAVE" })
+	public String statusUpdateMode;
+
+	private ConfigurableApplicationContext context;
+	private TaskService service;
+	private UUID userId;
+	private List<Long> ids;
+
+	@Setup(Level.Trial)
+	public void setUp() {
+		String url = System.getProperty("benchmark.jdbc.url", "jdbc:h2:mem:benchmark;DB_CLOSE_DELAY=-1;DB_CLOSE_ON_EXIT=FALSE");
+		boolean h2 = url.startsWith("jdbc:h2:");
+		context = new SpringApplicationBuilder(WorkflowManagerApplication.class)
+				.web(WebApplicationType.NONE)
+				.run("--spring.profiles.active=benchmark",
+						"--spring.datasource.url=" + url,
+						"--spring.datasource.username=" + System.getProperty("benchmark.jdbc.username", h2 ? "sa" : "postgres"),
+						"--spring.datasource.password=" + System.getProperty("benchmark.jdbc.password", ""),
+						"--spring.jpa.database-platform=org.hibernate.dialect." + (h2 ? "H2Dialect" : "PostgreSQLDialect"),
+						"--spring.jpa.hibernate.ddl-auto=" + (h2 ? "create-drop" : "validate"),
+						"--spring.cache.type=none",
+						"--app.tasks.status-update-mode=" + statusUpdateMode,
+						"--app.cors.allowed-origins=*",
+						"--logging.level.root=WARN");
+		service = context.getBean(TaskService.class);
+		userId = UUID.randomUUID();
+
+		List<TaskBatchOperation> operations = new ArrayList<>();
+		for (int i = 0; i < tasks; i++) {
+			operations.add(new TaskBatchOperation(TaskBatchAction.CREATE, null, BenchmarkTasks.request(i)));
+			if (operations.size() == 1000 || i == tasks - 1) {
+				service.batch(userId, operations);
+				operations.clear();
+			}
+		}
+		ids = service.getAll(userId).stream().map(TaskResponse::id).toList();
+	}
+
+	@TearDown(Level.Trial)
+	public void tearDown() {
+		context.close();
+	}
+
+	@Benchmark
+	public List<TaskResponse> getAll() {
+		return service.getAll(userId);
+	}
+
+	@Benchmark
+	public TaskPage getFirstPage() {
+		return service.getPage(userId, TaskStatus.TODO, 50, null);
+	}
+
+	@Benchmark
+	public TaskResponse getById() {
+		return service.getById(userId, randomId());
+	}
+
+	@Benchmark
+	public TaskResponse updateStatus() {
+		TaskStatus status = TaskStatus.values()[ThreadLocalRandom.current().nextInt(TaskStatus.values().length)];
+		return service.updateStatus(userId, randomId(), status, null);
+	}
+
+	@Benchmark
+	public TaskResponse create() {
+		return service.create(BenchmarkTasks.request(ThreadLocalRandom.current().nextInt(tasks)), userId);
+	}
+
+	private long randomId() {
+		return ids.get(ThreadLocalRandom.current().nextInt(ids.size()));
+	}
+}
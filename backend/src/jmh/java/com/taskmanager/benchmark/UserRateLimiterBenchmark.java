@@ -0,0 +1,83 @@
+package com.taskmanager.benchmark;
+
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import com.taskmanager.config.RateLimitProperties;
+import com.taskmanager.config.UserRateLimiter;
+
+/**
+ * Admission cost per request, granted and rejected, with users spread over
+ * the bucket cache. Run with {@code -prof gc}: {@code gc.alloc.rate.norm}
+ * should stay at 0 B/op.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@Threads(4)
+public class UserRateLimiterBenchmark {
+
+	@Param({ "1", "10000" })
+	public int users;
+
+	private UUID[] userIds;
+	private UserRateLimiter open;
+	private UserRateLimiter exhausted;
+
+	@State(Scope.Thread)
+	public static class Cursor {
+		int next;
+	}
+
+	@Setup
+	public void setUp() {
+		userIds = new UUID[users];
+		for (int i = 0; i < users; i++) {
+			userIds[i] = UUID.randomUUID();
+		}
+		var unlimited = new RateLimitProperties();
+		unlimited.setRequestsPerSecond(1e9);
+		unlimited.setBurst(Integer.MAX_VALUE / 2);
+		open = new UserRateLimiter(unlimited);
+
+		var strict = new RateLimitProperties();
+		strict.setRequestsPerSecond(0.001);
+		strict.setBurst(1);
+		exhausted = new UserRateLimiter(strict);
+		for (UUID userId : userIds) {
+			exhausted.tryAcquire(userId);
+		}
+	}
+
+	@Benchmark
+	public long granted(Cursor cursor) {
+		return open.tryAcquire(next(cursor));
+	}
+
+	@Benchmark
+	public long rejected(Cursor cursor) {
+		return exhausted.tryAcquire(next(cursor));
+	}
+
+	private UUID next(Cursor cursor) {
+		int i = cursor.next;
+		cursor.next = i + 1 == users ? 0 : i + 1;
+		return userIds[i];
+	}
+}
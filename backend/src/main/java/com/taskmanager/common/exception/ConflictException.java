@@ -0,0 +1,11 @@
+package com.taskmanager.common.exception;
+
+/** An expected client error: thrown without a stack trace. */
+public class ConflictException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	public ConflictException(String message) {
+		super(message, null, false, false);
+	}
+}
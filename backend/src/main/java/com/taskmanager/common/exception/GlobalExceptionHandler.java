@@ -1,6 +1,8 @@
 package com.taskmanager.common.exception;
 
 import org.springframework.dao.DataAccessException;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.FieldError;
@@ -13,25 +15,84 @@ import com.taskmanager.common.response.*;
 
 import lombok.extern.slf4j.Slf4j;
 
+import java.time.Duration;
 import java.time.LocalDateTime;
+import java.util.HashMap;
+import java.util.List;
 import java.util.Map;
-import java.util.stream.Collectors;
 
+/**
+ * Client errors (4xx) come in floods when a client misbehaves, so their
+ * bodies are shared {@link ApiErrors} and their warnings are throttled to one
+ * per second per handler, with a count of the ones skipped.
+ */
 @Slf4j
 @ControllerAdvice
 public class GlobalExceptionHandler {
+	private static final Duration LOG_INTERVAL = Duration.ofSeconds(1);
+
+	private final LogThrottle notFoundLog = new LogThrottle(LOG_INTERVAL);
+	private final LogThrottle badRequestLog = new LogThrottle(LOG_INTERVAL);
+	private final LogThrottle preconditionLog = new LogThrottle(LOG_INTERVAL);
+	private final LogThrottle conflictLog = new LogThrottle(LOG_INTERVAL);
+	private final LogThrottle validationLog = new LogThrottle(LOG_INTERVAL);
+
 	@ExceptionHandler(ResourceNotFoundException.class)
 	public ResponseEntity<ApiError> handleNotFound(ResourceNotFoundException ex) {
+		warn(notFoundLog, ex);
+		return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiErrors.of(ex.getMessage()));
+	}
+
+	@ExceptionHandler(BadRequestException.class)
+	public ResponseEntity<ApiError> handleBadRequest(BadRequestException ex) {
+		warn(badRequestLog, ex);
+		return ResponseEntity.badRequest().body(ApiErrors.of(ex.getMessage()));
+	}
+
+	@ExceptionHandler(PreconditionFailedException.class)
+	public ResponseEntity<ApiError> handlePreconditionFailed(PreconditionFailedException ex) {
+		warn(preconditionLog, ex);
+		return ResponseEntity.status(HttpStatus.PRECONDITION_FAILED).body(ApiErrors.of(ex.getMessage()));
+	}
+
+	@ExceptionHandler(ConflictException.class)
+	public ResponseEntity<ApiError> handleConflict(ConflictException ex) {
+		warn(conflictLog, ex);
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiErrors.of(ex.getMessage()));
+	}
+
+	// rejected under load: debug only, a warning per request would add to it
+	@ExceptionHandler(TooManyRequestsException.class)
+	public ResponseEntity<ApiError> handleTooManyRequests(TooManyRequestsException ex) {
+		log.debug("{}", ex.getMessage());
+		return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+				.header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+				.body(ApiErrors.of(ex.getMessage()));
+	}
+
+	@ExceptionHandler(ServiceUnavailableException.class)
+	public ResponseEntity<ApiError> handleServiceUnavailable(ServiceUnavailableException ex) {
+		log.debug("{}", ex.getMessage());
+		return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+				.header(HttpHeaders.RETRY_AFTER, Long.toString(ex.getRetryAfterSeconds()))
+				.body(ApiErrors.of(ex.getMessage()));
+	}
+
+	@ExceptionHandler(OptimisticLockingFailureException.class)
+	public ResponseEntity<ApiError> handleOptimisticLock(OptimisticLockingFailureException ex) {
 		log.warn("{}", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.NOT_FOUND)
-				.body(new ApiError(ex.getMessage(), null, LocalDateTime.now(), MessageType.ERROR));
+		return ResponseEntity.status(HttpStatus.CONFLICT).body(ApiErrors.of(ApiMessage.TASK_MODIFIED));
 	}
 
 	@ExceptionHandler(MethodArgumentNotValidException.class)
 	public ResponseEntity<ApiError> handleValidation(MethodArgumentNotValidException ex) {
-		log.warn("{}", ex.getMessage());
-		Map<String, String> errors = ex.getBindingResult().getFieldErrors().stream()
-				.collect(Collectors.toMap(FieldError::getField, FieldError::getDefaultMessage));
+		warn(validationLog, ex);
+		List<FieldError> fieldErrors = ex.getBindingResult().getFieldErrors();
+		// first error per field wins; Collectors.toMap threw on a field failing two constraints
+		Map<String, String> errors = new HashMap<>(fieldErrors.size() * 2);
+		for (FieldError error : fieldErrors) {
+			errors.putIfAbsent(error.getField(), error.getDefaultMessage());
+		}
 		return ResponseEntity.badRequest()
 				.body(new ApiError(ApiMessage.INVALID_TASK_DATA, errors, LocalDateTime.now(), MessageType.ERROR));
 	}
@@ -39,14 +100,23 @@ public class GlobalExceptionHandler {
 	@ExceptionHandler(MissingRequestHeaderException.class)
 	public ResponseEntity<ApiError> handleHeader(MissingRequestHeaderException ex) {
 		log.error("{}", ex.getMessage());
-		return ResponseEntity.status(HttpStatus.UNAUTHORIZED)
-				.body(new ApiError(ApiMessage.UNAUTHORIZED_ACCESS, null, LocalDateTime.now(), MessageType.ERROR));
+		return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(ApiErrors.of(ApiMessage.UNAUTHORIZED_ACCESS));
 	}
 
 	@ExceptionHandler(DataAccessException.class)
 	public ResponseEntity<ApiError> handleDataAccess(DataAccessException ex) {
 		log.error("Database error", ex);
-		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
-				.body(new ApiError(ApiMessage.DATABASE_ERROR, null, LocalDateTime.now(), MessageType.ERROR));
+		return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(ApiErrors.of(ApiMessage.DATABASE_ERROR));
+	}
+
+	private static void warn(LogThrottle throttle, Exception ex) {
+		if (log.isWarnEnabled() && throttle.tryAcquire()) {
+			long suppressed = throttle.drainSuppressed();
+			if (suppressed > 0) {
+				log.warn("{} ({} similar suppressed)", ex.getMessage(), suppressed);
+			} else {
+				log.warn("{}", ex.getMessage());
+			}
+		}
 	}
 }
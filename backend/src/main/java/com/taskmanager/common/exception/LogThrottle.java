@@ -0,0 +1,36 @@
+package com.taskmanager.common.exception;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lets one log line through per interval and counts the rest, so a flood of
+ * identical client errors costs a counter increment each instead of a log
+ * write.
+ */
+final class LogThrottle {
+
+	private final long interval;
+	private final AtomicLong nextAllowed = new AtomicLong(System.nanoTime());
+	private final LongAdder suppressed = new LongAdder();
+
+	LogThrottle(Duration interval) {
+		this.interval = interval.toNanos();
+	}
+
+	boolean tryAcquire() {
+		long now = System.nanoTime();
+		long next = nextAllowed.get();
+		if (now - next >= 0 && nextAllowed.compareAndSet(next, now + interval)) {
+			return true;
+		}
+		suppressed.increment();
+		return false;
+	}
+
+	/** Lines skipped since the last one let through. */
+	long drainSuppressed() {
+		return suppressed.sumThenReset();
+	}
+}
@@ -1,11 +1,29 @@
 package com.taskmanager.common.exception;
 
+/**
+ * Expected on every lookup of a missing or foreign id, so it skips the stack
+ * trace and only formats its message when someone reads it.
+ */
 public class ResourceNotFoundException extends RuntimeException {
-    
+
 	private static final long serialVersionUID = 1L;
 
+	private final String message;
+	private final Object id;
+
 	public ResourceNotFoundException(String message) {
-        super(message);
-    }
-}
+		this(message, null);
+	}
 
+	/** The message as clients get it is {@code message} followed by the id. */
+	public ResourceNotFoundException(String message, Object id) {
+		super(null, null, false, false);
+		this.message = message;
+		this.id = id;
+	}
+
+	@Override
+	public String getMessage() {
+		return id == null ? message : message + " " + id;
+	}
+}
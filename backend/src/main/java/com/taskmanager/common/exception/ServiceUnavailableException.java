@@ -0,0 +1,17 @@
+package com.taskmanager.common.exception;
+
+import lombok.Getter;
+
+/** Thrown for every rejected request under load, so it skips the stack trace. */
+@Getter
+public class ServiceUnavailableException extends RuntimeException {
+
+	private static final long serialVersionUID = 1L;
+
+	private final long retryAfterSeconds;
+
+	public ServiceUnavailableException(String message, long retryAfterSeconds) {
+		super(message, null, false, false);
+		this.retryAfterSeconds = retryAfterSeconds;
+	}
+}
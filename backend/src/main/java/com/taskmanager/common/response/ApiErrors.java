@@ -0,0 +1,58 @@
+package com.taskmanager.common.response;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * Shared {@link ApiError} instances per {@link ApiMessage} constant,
+ * re-stamped at most once a second, so error floods do not allocate a body
+ * and a timestamp per response. Any other message (one with request details
+ * in it, such as a 404 naming its id) gets a fresh error each time and is
+ * never kept.
+ */
+public final class ApiErrors {
+
+	/** One slot per constant, fixed at startup; requests never add keys. */
+	private static final Map<String, AtomicReference<Stamped>> ERRORS = constants();
+
+	private ApiErrors() {
+	}
+
+	public static ApiError of(String message) {
+		AtomicReference<Stamped> slot = message == null ? null : ERRORS.get(message);
+		if (slot == null) {
+			return new ApiError(message, null, LocalDateTime.now(), MessageType.ERROR);
+		}
+		long second = System.currentTimeMillis() / 1000;
+		Stamped stamped = slot.get();
+		if (stamped != null && stamped.second == second) {
+			return stamped.error;
+		}
+		var error = new ApiError(message, null, LocalDateTime.now().truncatedTo(ChronoUnit.SECONDS),
+				MessageType.ERROR);
+		slot.set(new Stamped(second, error));
+		return error;
+	}
+
+	private static Map<String, AtomicReference<Stamped>> constants() {
+		Map<String, AtomicReference<Stamped>> errors = new HashMap<>();
+		for (Field field : ApiMessage.class.getFields()) {
+			if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class) {
+				try {
+					errors.put((String) field.get(null), new AtomicReference<>());
+				} catch (IllegalAccessException ex) {
+					throw new IllegalStateException(ex);
+				}
+			}
+		}
+		return Map.copyOf(errors);
+	}
+
+	private record Stamped(long second, ApiError error) {
+	}
+}
@@ -8,13 +8,33 @@ public final class ApiMessage {
 	    public static final String TASK_DELETED = "Task deleted successfully";
 	    public static final String TASK_RETRIEVED = "Task retrieved successfully";
 	    public static final String TASKS_RETRIEVED = "Tasks retrieved successfully";
+	    public static final String TASKS_BATCH_PROCESSED = "Task batch processed";
+	    public static final String TASK_MOVED = "Task moved successfully";
+	    public static final String TASK_STATS_RETRIEVED = "Task statistics retrieved successfully";
 
 	    // ===== CLIENT ERROR MESSAGES (400) =====
 	    public static final String INVALID_TASK_DATA = "Invalid task data"; 
+	    public static final String INVALID_USER_ID = "X-USER-ID must be a UUID";
+	    public static final String INVALID_CURSOR = "Invalid page cursor";
+	    public static final String INVALID_WATERMARK = "Invalid change watermark";
+	    public static final String INVALID_SEARCH_QUERY = "Search query must not be blank";
+	    public static final String INVALID_FIELDS = "Unknown task field";
+	    public static final String INVALID_MOVE = "Neighbour tasks must be distinct, ordered and in the target lane";
+	    public static final String INVALID_IDEMPOTENCY_KEY = "Idempotency-Key must be 1 to 255 characters";
+	    public static final String IDEMPOTENCY_KEY_REUSED = "Idempotency-Key was already used for a different request";
 
 	    // ===== NOT FOUND (404) =====
 	    public static final String TASK_NOT_FOUND = "Task not found with id"; 
 
+	    // ===== CONFLICT (409 / 412) =====
+	    public static final String TASK_MODIFIED = "Task was modified by another request";
+	    public static final String TASK_VERSION_MISMATCH = "Task version does not match If-Match";
+	    public static final String IDEMPOTENCY_KEY_IN_PROGRESS = "A request with this Idempotency-Key is still in progress";
+
+	    // ===== OVERLOAD (429 / 503) =====
+	    public static final String RATE_LIMITED = "Too many requests, retry later";
+	    public static final String SERVICE_OVERLOADED = "Service is overloaded, retry later";
+
 	    // ===== UNAUTHORIZED   ===== 
 	    public static final String UNAUTHORIZED_ACCESS = "You are not authorized to access this resource";
  
@@ -0,0 +1,43 @@
+package com.taskmanager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task.application.TaskBoardVersions;
+import com.taskmanager.task.application.TaskCacheListener;
+import com.taskmanager.task.application.TaskCacheNotifier;
+import com.taskmanager.task.application.TaskLocalCaches;
+import com.taskmanager.task.application.TaskProperties;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Keeps the task caches of several nodes coherent over PostgreSQL
+ * {@code LISTEN}/{@code NOTIFY}. Off by default, for a single node.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tasks.coherence", name = "enabled", havingValue = "true")
+public class CacheCoherenceConfig {
+
+	@Bean
+	TaskCacheNotifier taskCacheNotifier(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry registry) {
+		return new TaskCacheNotifier(jdbcTemplate, objectMapper, registry);
+	}
+
+	@Bean
+	TaskLocalCaches taskLocalCaches(TaskBoardVersions boardVersions, EntityManagerFactory entityManagerFactory) {
+		return new TaskLocalCaches(boardVersions, entityManagerFactory);
+	}
+
+	@Bean
+	TaskCacheListener taskCacheListener(DataSourceProperties dataSourceProperties, TaskLocalCaches caches,
+			TaskCacheNotifier notifier, ObjectMapper objectMapper, TaskProperties properties, MeterRegistry registry) {
+		return new TaskCacheListener(dataSourceProperties, caches, objectMapper, notifier.origin(), properties,
+				registry);
+	}
+}
@@ -0,0 +1,64 @@
+package com.taskmanager.config;
+
+import java.util.List;
+import java.util.OptionalLong;
+
+import javax.cache.Caching;
+
+import org.hibernate.cache.jcache.ConfigSettings;
+import org.springframework.boot.autoconfigure.cache.CacheManagerCustomizer;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import com.github.benmanes.caffeine.jcache.spi.CaffeineCachingProvider;
+import com.taskmanager.task.application.TaskProperties;
+import com.taskmanager.task.domain.Task;
+
+/**
+ * Caching runs outside the transaction interceptor, so cache hits never borrow
+ * a connection. Boards are read and loaded through {@code TaskBoardCache} and
+ * evicted after commit by {@code TaskBoardVersions}.
+ */
+@Configuration
+@EnableCaching(order = Ordered.HIGHEST_PRECEDENCE)
+public class CacheConfig {
+
+	public static final String TASK_BOARDS = "taskBoards";
+
+	@Bean
+	CacheManagerCustomizer<CaffeineCacheManager> taskBoardCacheCustomizer(TaskProperties properties) {
+		var boardCache = properties.getBoardCache();
+		return cacheManager -> cacheManager.registerCustomCache(TASK_BOARDS, Caffeine.newBuilder()
+				.maximumWeight(boardCache.getMaximumTasks())
+				.weigher((Object userId, Object board) -> Math.max(1, ((List<?>) board).size()))
+				.expireAfterWrite(boardCache.getTtl())
+				.recordStats()
+				.build());
+	}
+
+	/**
+	 * Hands Hibernate a JCache manager holding the bounded
+	 * {@link Task#CACHE_REGION} region; without it Hibernate would create the
+	 * region on the fly with no size limit.
+	 */
+	@Bean
+	HibernatePropertiesCustomizer taskEntityCacheCustomizer(TaskProperties properties) {
+		var entityCache = properties.getEntityCache();
+		return hibernateProperties -> {
+			var cacheManager = Caching.getCachingProvider(CaffeineCachingProvider.class.getName()).getCacheManager();
+			if (cacheManager.getCache(Task.CACHE_REGION) == null) {
+				cacheManager.createCache(Task.CACHE_REGION, new CaffeineConfiguration<>()
+						.setMaximumSize(OptionalLong.of(entityCache.getMaximumTasks()))
+						.setExpireAfterWrite(OptionalLong.of(entityCache.getTtl().toNanos()))
+						.setStatisticsEnabled(true));
+			}
+			hibernateProperties.put(ConfigSettings.CACHE_MANAGER, cacheManager);
+		};
+	}
+}
@@ -1,11 +1,24 @@
 package com.taskmanager.config;
 
+import java.util.List;
+
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
-import org.springframework.web.servlet.config.annotation.CorsRegistry;
-import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
+import org.springframework.core.Ordered;
+import org.springframework.http.HttpHeaders;
+import org.springframework.web.cors.CorsConfiguration;
+import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
+import org.springframework.web.filter.CorsFilter;
+
+import com.taskmanager.task.api.TaskIdempotency;
 
+/**
+ * CORS as the first filter rather than an MVC mapping, so responses written
+ * by filters, such as rate limit rejections, carry the CORS headers too and
+ * preflight requests are answered before any limit applies.
+ */
 @Configuration
 public class CorsConfig {
 
@@ -13,14 +26,17 @@ public class CorsConfig {
 	private String[] allowedOrigins;
 
 	@Bean
-	WebMvcConfigurer corsConfigurer() {
-		return new WebMvcConfigurer() {
-			@Override
-			public void addCorsMappings(CorsRegistry registry) {
-				registry.addMapping("/**").allowedOrigins(allowedOrigins)
-						.allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH")
-						.allowedHeaders("*");
-			}
-		};
+	FilterRegistrationBean<CorsFilter> corsFilter() {
+		var cors = new CorsConfiguration();
+		cors.setAllowedOrigins(List.of(allowedOrigins));
+		cors.setAllowedMethods(List.of("GET", "POST", "PUT", "DELETE", "PATCH"));
+		cors.addAllowedHeader(CorsConfiguration.ALL);
+		cors.setExposedHeaders(List.of(HttpHeaders.ETAG, HttpHeaders.RETRY_AFTER, TaskIdempotency.REPLAYED_HEADER,
+				ReplicaUserFilter.LAST_WRITE_HEADER));
+		var source = new UrlBasedCorsConfigurationSource();
+		source.registerCorsConfiguration("/**", cors);
+		var registration = new FilterRegistrationBean<>(new CorsFilter(source));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE);
+		return registration;
 	}
 }
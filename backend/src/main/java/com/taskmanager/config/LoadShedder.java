@@ -0,0 +1,154 @@
+package com.taskmanager.config;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.context.SmartLifecycle;
+
+import com.zaxxer.hikari.HikariDataSource;
+import com.zaxxer.hikari.HikariPoolMXBean;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Node-wide admission. Counts requests in flight on every request; the
+ * connection pool's waiters and mean acquire time are sampled in the
+ * background, so the request path reads a single flag. Sampling runs on its
+ * own thread: the shared scheduler can fall behind exactly when the node is
+ * overloaded, which would leave the flag stale.
+ */
+@Slf4j
+public class LoadShedder implements SmartLifecycle {
+
+	static final String THREAD_NAME = "load-shedder";
+
+	private final AtomicInteger inFlight = new AtomicInteger();
+	private final int maxInFlight;
+	private final int maxPoolWaiters;
+	private final Duration sampleInterval;
+	private final double maxPoolWaitNanos;
+	private final DataSource dataSource;
+	private final MeterRegistry registry;
+	private volatile boolean poolSaturated;
+	private volatile ScheduledExecutorService sampler;
+	private boolean unsupported;
+	private HikariPoolMXBean pool;
+	private Timer acquire;
+	private long lastCount;
+	private double lastTotalNanos;
+
+	public LoadShedder(RateLimitProperties properties, DataSource dataSource, MeterRegistry registry) {
+		this.maxInFlight = properties.getMaxInFlight();
+		this.maxPoolWaiters = properties.getMaxPoolWaiters();
+		this.maxPoolWaitNanos = properties.getMaxPoolWait().toNanos();
+		this.sampleInterval = properties.getSampleInterval();
+		this.dataSource = dataSource;
+		this.registry = registry;
+	}
+
+	/** Admits a request unless the node is overloaded; admitted requests must call {@link #exit()}. */
+	public boolean tryEnter() {
+		if (poolSaturated) {
+			return false;
+		}
+		if (inFlight.incrementAndGet() > maxInFlight) {
+			inFlight.decrementAndGet();
+			return false;
+		}
+		return true;
+	}
+
+	public void exit() {
+		inFlight.decrementAndGet();
+	}
+
+	int inFlight() {
+		return inFlight.get();
+	}
+
+	boolean poolSaturated() {
+		return poolSaturated;
+	}
+
+	@Override
+	public synchronized void start() {
+		sampler = Executors.newSingleThreadScheduledExecutor(task -> {
+			Thread thread = new Thread(task, THREAD_NAME);
+			thread.setDaemon(true);
+			return thread;
+		});
+		long interval = sampleInterval.toNanos();
+		sampler.scheduleWithFixedDelay(this::sampleSafely, interval, interval, TimeUnit.NANOSECONDS);
+	}
+
+	@Override
+	public synchronized void stop() {
+		sampler.shutdownNow();
+		sampler = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return sampler != null;
+	}
+
+	// an exception would cancel every later run
+	private void sampleSafely() {
+		try {
+			sample();
+		} catch (RuntimeException ex) {
+			log.warn("Could not sample the connection pool", ex);
+		}
+	}
+
+	void sample() {
+		if (pool == null && !connectPool()) {
+			return;
+		}
+		int waiters = pool.getThreadsAwaitingConnection();
+		double meanWait = 0;
+		if (acquire != null) {
+			long count = acquire.count();
+			double total = acquire.totalTime(TimeUnit.NANOSECONDS);
+			if (count > lastCount) {
+				meanWait = (total - lastTotalNanos) / (count - lastCount);
+			}
+			lastCount = count;
+			lastTotalNanos = total;
+		}
+		boolean saturated = waiters > maxPoolWaiters || meanWait > maxPoolWaitNanos;
+		if (saturated != poolSaturated) {
+			log.warn("{} load shedding: {} threads waiting for a connection, mean wait {}",
+					saturated ? "Starting" : "Stopping", waiters, Duration.ofNanos((long) meanWait));
+			poolSaturated = saturated;
+		}
+	}
+
+	private boolean connectPool() {
+		if (unsupported) {
+			return false;
+		}
+		HikariDataSource hikari;
+		try {
+			hikari = dataSource.unwrap(HikariDataSource.class);
+		} catch (SQLException ex) {
+			log.info("Connection pool is not Hikari, load shedding only counts requests in flight");
+			unsupported = true;
+			return false;
+		}
+		// null until the pool has started
+		pool = hikari.getHikariPoolMXBean();
+		if (pool != null) {
+			acquire = registry.find("hikaricp.connections.acquire").tag("pool", hikari.getPoolName()).timer();
+		}
+		return pool != null;
+	}
+}
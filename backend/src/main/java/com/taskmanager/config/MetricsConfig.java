@@ -0,0 +1,62 @@
+package com.taskmanager.config;
+
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.MeterBinder;
+import io.micrometer.core.instrument.binder.cache.JCacheMetrics;
+import io.micrometer.observation.ObservationRegistry;
+import io.micrometer.observation.aop.ObservedAspect;
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * Service observations ({@code @Observed}), per-request SQL statement counts
+ * and second-level cache meters. Endpoint timings come from Spring's
+ * {@code http.server.requests}; percentiles for all of them are set through
+ * {@code management.metrics.distribution.*}.
+ */
+@Configuration
+public class MetricsConfig {
+
+	@Bean
+	ObservedAspect observedAspect(ObservationRegistry observationRegistry) {
+		return new ObservedAspect(observationRegistry);
+	}
+
+	@Bean
+	HibernatePropertiesCustomizer sqlStatementCounter() {
+		return properties -> properties.put(AvailableSettings.STATEMENT_INSPECTOR, new SqlStatementCounter());
+	}
+
+	@Bean
+	FilterRegistrationBean<SqlStatementMetricsFilter> sqlStatementMetricsFilter(MeterRegistry registry) {
+		var registration = new FilterRegistrationBean<>(new SqlStatementMetricsFilter(registry));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 1);
+		return registration;
+	}
+
+	/**
+	 * {@code cache.gets}, {@code cache.puts} and {@code cache.evictions} per
+	 * Hibernate second-level cache region, tagged {@code cache=<region>}, like
+	 * Spring's caches.
+	 */
+	@Bean
+	MeterBinder entityCacheMetrics(EntityManagerFactory entityManagerFactory) {
+		return registry -> {
+			var regionFactory = entityManagerFactory.unwrap(SessionFactoryImplementor.class).getCache().getRegionFactory();
+			if (regionFactory instanceof JCacheRegionFactory jcache) {
+				var cacheManager = jcache.getCacheManager();
+				for (String name : cacheManager.getCacheNames()) {
+					JCacheMetrics.monitor(registry, cacheManager.getCache(name));
+				}
+			}
+		};
+	}
+}
@@ -0,0 +1,42 @@
+package com.taskmanager.config;
+
+import javax.sql.DataSource;
+
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Per-user rate limits and load shedding for {@code /api}. Actuator
+ * endpoints stay reachable so health checks see an overloaded node as up.
+ * Off unless {@code app.rate-limit.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.rate-limit", name = "enabled", havingValue = "true")
+public class RateLimitConfig {
+
+	@Bean
+	UserRateLimiter userRateLimiter(RateLimitProperties properties) {
+		return new UserRateLimiter(properties);
+	}
+
+	@Bean
+	LoadShedder loadShedder(RateLimitProperties properties, DataSource dataSource, MeterRegistry registry) {
+		return new LoadShedder(properties, dataSource, registry);
+	}
+
+	@Bean
+	FilterRegistrationBean<RateLimitFilter> rateLimitFilter(UserRateLimiter limiter, LoadShedder shedder,
+			@Qualifier("handlerExceptionResolver") HandlerExceptionResolver exceptionResolver) {
+		var registration = new FilterRegistrationBean<>(new RateLimitFilter(limiter, shedder, exceptionResolver));
+		registration.addUrlPatterns("/api/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 3);
+		return registration;
+	}
+}
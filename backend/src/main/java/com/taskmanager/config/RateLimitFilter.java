@@ -0,0 +1,69 @@
+package com.taskmanager.config;
+
+import java.io.IOException;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerExceptionResolver;
+
+import com.taskmanager.common.exception.*;
+import com.taskmanager.common.response.*;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Rejects a user's requests beyond their rate with 429, then the node's
+ * requests beyond its capacity with 503, before any controller or connection
+ * is involved. A user id that is not a UUID is rejected with 400 first, so
+ * arbitrary header values never reach the bucket cache. Rejections are
+ * rendered by {@code GlobalExceptionHandler} through the MVC exception
+ * resolvers.
+ */
+@RequiredArgsConstructor
+public class RateLimitFilter extends OncePerRequestFilter {
+
+	static final String USER_HEADER = "X-USER-ID";
+	static final long OVERLOAD_RETRY_AFTER_SECONDS = 1;
+
+	private final UserRateLimiter limiter;
+	private final LoadShedder shedder;
+	private final HandlerExceptionResolver exceptionResolver;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		String header = request.getHeader(USER_HEADER);
+		if (header != null) {
+			UUID user;
+			try {
+				user = UUID.fromString(header);
+			} catch (IllegalArgumentException ex) {
+				exceptionResolver.resolveException(request, response, null,
+						new BadRequestException(ApiMessage.INVALID_USER_ID));
+				return;
+			}
+			long wait = limiter.tryAcquire(user);
+			if (wait > 0) {
+				long seconds = TimeUnit.NANOSECONDS.toSeconds(wait - 1) + 1;
+				exceptionResolver.resolveException(request, response, null,
+						new TooManyRequestsException(ApiMessage.RATE_LIMITED, seconds));
+				return;
+			}
+		}
+		if (!shedder.tryEnter()) {
+			exceptionResolver.resolveException(request, response, null,
+					new ServiceUnavailableException(ApiMessage.SERVICE_OVERLOADED, OVERLOAD_RETRY_AFTER_SECONDS));
+			return;
+		}
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			shedder.exit();
+		}
+	}
+}
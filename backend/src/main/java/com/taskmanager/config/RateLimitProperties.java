@@ -0,0 +1,41 @@
+package com.taskmanager.config;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.rate-limit")
+public class RateLimitProperties {
+
+	/** Whether /api requests are rate limited per user and shed under overload. */
+	private boolean enabled = false;
+
+	/** Sustained requests per second allowed for one user. */
+	private double requestsPerSecond = 50;
+
+	/** Requests a user may send at once after being idle. */
+	private int burst = 100;
+
+	/** Buckets unused for this long are dropped; a returning user starts with a full bucket. */
+	private Duration idleTimeout = Duration.ofMinutes(10);
+
+	/** Buckets kept at most; beyond that the least recently used are dropped. */
+	private long maxUsers = 100_000;
+
+	/** Requests processed at once on this node before new ones are shed. */
+	private int maxInFlight = 200;
+
+	/** Threads waiting for a database connection before new requests are shed. */
+	private int maxPoolWaiters = 20;
+
+	/** Mean connection acquire time over the last sample before new requests are shed. */
+	private Duration maxPoolWait = Duration.ofMillis(250);
+
+	/** How often the connection pool is sampled, on a thread of its own. */
+	private Duration sampleInterval = Duration.ofMillis(250);
+}
@@ -0,0 +1,41 @@
+package com.taskmanager.config;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.datasource.replicas")
+public class ReplicaProperties {
+
+	/** Whether read-only transactions are routed to the replicas below. */
+	private boolean enabled = false;
+
+	/** JDBC urls of the replicas; each gets its own pool sized like the primary. */
+	private List<String> urls = new ArrayList<>();
+
+	/** Replica credentials; default to {@code spring.datasource.username/password}. */
+	private String username;
+
+	private String password;
+
+	/** Replicas further behind the primary than this serve no reads until they catch up. */
+	private Duration maxLag = Duration.ofSeconds(5);
+
+	/** Returns the replica's replay lag in seconds. */
+	private String lagQuery = """
+			select case when pg_last_wal_receive_lsn() = pg_last_wal_replay_lsn() then 0
+			            else coalesce(extract(epoch from now() - pg_last_xact_replay_timestamp()), 0) end""";
+
+	/**
+	 * How long a user's reads stay on the primary after one of their writes
+	 * committed; zero turns read-your-writes off.
+	 */
+	private Duration readYourWrites = Duration.ofSeconds(10);
+}
@@ -0,0 +1,69 @@
+package com.taskmanager.config;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import javax.sql.DataSource;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.core.Ordered;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import com.zaxxer.hikari.HikariDataSource;
+
+/**
+ * Sends read-only transactions to replica pools and everything else to the
+ * primary pool built from {@code spring.datasource.*}. Off unless
+ * {@code app.datasource.replicas.enabled} is set.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.datasource.replicas", name = "enabled", havingValue = "true")
+public class ReplicaRoutingConfig {
+
+	@Bean
+	@ConfigurationProperties("spring.datasource.hikari")
+	HikariDataSource primaryDataSource(DataSourceProperties properties) {
+		return properties.initializeDataSourceBuilder().type(HikariDataSource.class).build();
+	}
+
+	@Bean
+	ReplicaRoutingDataSource replicaDataSource(HikariDataSource primaryDataSource,
+			DataSourceProperties dataSourceProperties, ReplicaProperties properties) {
+		List<String> urls = properties.getUrls();
+		List<HikariDataSource> replicas = new ArrayList<>(urls.size());
+		for (int i = 0; i < urls.size(); i++) {
+			HikariDataSource replica = new HikariDataSource();
+			primaryDataSource.copyStateTo(replica);
+			replica.setPoolName("replica-" + i);
+			replica.setJdbcUrl(urls.get(i));
+			replica.setUsername(properties.getUsername() != null ? properties.getUsername()
+					: dataSourceProperties.determineUsername());
+			replica.setPassword(properties.getPassword() != null ? properties.getPassword()
+					: dataSourceProperties.determinePassword());
+			replica.setReadOnly(true);
+			replicas.add(replica);
+		}
+		return new ReplicaRoutingDataSource(primaryDataSource, replicas, properties);
+	}
+
+	@Bean
+	@Primary
+	DataSource dataSource(HikariDataSource primaryDataSource, ReplicaRoutingDataSource replicaDataSource) {
+		LazyConnectionDataSourceProxy proxy = new LazyConnectionDataSourceProxy(primaryDataSource);
+		proxy.setReadOnlyDataSource(replicaDataSource);
+		return proxy;
+	}
+
+	@Bean
+	FilterRegistrationBean<ReplicaUserFilter> replicaUserFilter(ReplicaProperties properties) {
+		var registration = new FilterRegistrationBean<>(new ReplicaUserFilter(properties));
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 2);
+		return registration;
+	}
+}
@@ -0,0 +1,154 @@
+package com.taskmanager.config;
+
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.AbstractDataSource;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.task.application.TaskChangedEvent;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Connections for read-only transactions. Picks the replicas round-robin,
+ * skipping any that lag more than {@code max-lag}, and falls back to the
+ * primary when none is usable or the current user wrote within the
+ * read-your-writes window. Writes are remembered per node; a write made
+ * through another node counts when the client echoes the write timestamp
+ * {@link ReplicaUserFilter} handed it. Used as the read-only target of a
+ * {@link org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy},
+ * which only asks for a connection once the transaction's read-only flag is
+ * known.
+ */
+@Slf4j
+public class ReplicaRoutingDataSource extends AbstractDataSource implements AutoCloseable {
+
+	private static final ThreadLocal<UUID> CURRENT_USER = new ThreadLocal<>();
+	private static final ThreadLocal<Boolean> WROTE_ELSEWHERE = new ThreadLocal<>();
+
+	private final DataSource primary;
+	private final List<Replica> replicas;
+	private final Duration maxLag;
+	private final String lagQuery;
+	private final Cache<UUID, Boolean> recentWriters;
+	private final AtomicInteger next = new AtomicInteger();
+
+	public ReplicaRoutingDataSource(DataSource primary, List<? extends DataSource> replicas,
+			ReplicaProperties properties) {
+		this.primary = primary;
+		this.replicas = replicas.stream().map(Replica::new).toList();
+		this.maxLag = properties.getMaxLag();
+		this.lagQuery = properties.getLagQuery();
+		this.recentWriters = properties.getReadYourWrites().isZero() ? null
+				: Caffeine.newBuilder()
+						.maximumSize(100_000)
+						.expireAfterWrite(properties.getReadYourWrites())
+						.build();
+	}
+
+	/** Binds the user whose reads this thread serves, for read-your-writes. */
+	public static void setCurrentUser(UUID userId) {
+		setCurrentUser(userId, false);
+	}
+
+	/**
+	 * Also tells whether the client reported a write within the window, which
+	 * may have gone through another node and is then unknown to this one.
+	 */
+	public static void setCurrentUser(UUID userId, boolean wroteRecently) {
+		CURRENT_USER.set(userId);
+		WROTE_ELSEWHERE.set(wroteRecently);
+	}
+
+	public static void clearCurrentUser() {
+		CURRENT_USER.remove();
+		WROTE_ELSEWHERE.remove();
+	}
+
+	public void recordWrite(UUID userId) {
+		if (recentWriters != null) {
+			recentWriters.put(userId, Boolean.TRUE);
+		}
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	void onTaskChanged(TaskChangedEvent event) {
+		recordWrite(event.userId());
+	}
+
+	@Scheduled(fixedDelayString = "${app.datasource.replicas.lag-check-interval:5s}")
+	public void checkLag() {
+		for (int i = 0; i < replicas.size(); i++) {
+			Replica replica = replicas.get(i);
+			boolean lagging;
+			try {
+				Double seconds = new JdbcTemplate(replica.dataSource).queryForObject(lagQuery, Double.class);
+				lagging = seconds == null || seconds * 1000 > maxLag.toMillis();
+			} catch (RuntimeException ex) {
+				log.warn("Replica {} lag check failed: {}", i, ex.getMessage());
+				lagging = true;
+			}
+			if (lagging != replica.lagging) {
+				log.info("Replica {} {} read traffic", i, lagging ? "removed from" : "returned to");
+				replica.lagging = lagging;
+			}
+		}
+	}
+
+	@Override
+	public Connection getConnection() throws SQLException {
+		return target().getConnection();
+	}
+
+	@Override
+	public Connection getConnection(String username, String password) throws SQLException {
+		return target().getConnection(username, password);
+	}
+
+	DataSource target() {
+		UUID userId = CURRENT_USER.get();
+		if (userId != null && recentWriters != null
+				&& (Boolean.TRUE.equals(WROTE_ELSEWHERE.get()) || recentWriters.getIfPresent(userId) != null)) {
+			return primary;
+		}
+		int size = replicas.size();
+		int start = Math.floorMod(next.getAndIncrement(), Math.max(size, 1));
+		for (int i = 0; i < size; i++) {
+			Replica replica = replicas.get((start + i) % size);
+			if (!replica.lagging) {
+				return replica.dataSource;
+			}
+		}
+		return primary;
+	}
+
+	@Override
+	public void close() throws Exception {
+		for (Replica replica : replicas) {
+			if (replica.dataSource instanceof AutoCloseable closeable) {
+				closeable.close();
+			}
+		}
+	}
+
+	private static final class Replica {
+
+		private final DataSource dataSource;
+		private volatile boolean lagging;
+
+		Replica(DataSource dataSource) {
+			this.dataSource = dataSource;
+		}
+	}
+}
@@ -0,0 +1,92 @@
+package com.taskmanager.config;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.UUID;
+import java.util.function.LongSupplier;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Binds the requesting user to the thread so replica routing can keep their
+ * reads on the primary right after they wrote. Behind a load balancer the
+ * next read may land on a node that never saw the write, so every write
+ * request is answered with its time in {@code X-Last-Write}; a client that
+ * sends it back has its reads kept on the primary by any node until the
+ * read-your-writes window has passed.
+ */
+public class ReplicaUserFilter extends OncePerRequestFilter {
+
+	static final String USER_HEADER = "X-USER-ID";
+	public static final String LAST_WRITE_HEADER = "X-Last-Write";
+
+	private final long readYourWrites;
+	private final LongSupplier currentTimeMillis;
+
+	public ReplicaUserFilter(ReplicaProperties properties) {
+		this(properties.getReadYourWrites(), System::currentTimeMillis);
+	}
+
+	ReplicaUserFilter(Duration readYourWrites, LongSupplier currentTimeMillis) {
+		this.readYourWrites = readYourWrites.toMillis();
+		this.currentTimeMillis = currentTimeMillis;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		UUID userId = parse(request.getHeader(USER_HEADER));
+		boolean wroteRecently = false;
+		if (userId != null && readYourWrites > 0) {
+			long now = currentTimeMillis.getAsLong();
+			if (isWrite(request)) {
+				// set up front: the response is usually committed by the time the chain returns
+				response.setHeader(LAST_WRITE_HEADER, Long.toString(now));
+			} else {
+				wroteRecently = isRecent(request.getHeader(LAST_WRITE_HEADER), now);
+			}
+		}
+		ReplicaRoutingDataSource.setCurrentUser(userId, wroteRecently);
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			ReplicaRoutingDataSource.clearCurrentUser();
+		}
+	}
+
+	private static boolean isWrite(HttpServletRequest request) {
+		return switch (request.getMethod()) {
+			case "GET", "HEAD", "OPTIONS" -> false;
+			default -> true;
+		};
+	}
+
+	// node clocks differ a little; a stamp further off either way is ignored
+	private boolean isRecent(String header, long now) {
+		if (header == null) {
+			return false;
+		}
+		try {
+			return Math.abs(now - Long.parseLong(header)) < readYourWrites;
+		} catch (NumberFormatException ex) {
+			return false;
+		}
+	}
+
+	private static UUID parse(String header) {
+		if (header == null) {
+			return null;
+		}
+		try {
+			return UUID.fromString(header);
+		} catch (IllegalArgumentException ex) {
+			// the controller rejects it; nothing to route on
+			return null;
+		}
+	}
+}
@@ -0,0 +1,13 @@
+package com.taskmanager.config;
+
+import org.springframework.context.annotation.Configuration;
+import org.springframework.scheduling.annotation.EnableScheduling;
+
+/**
+ * Kept out of the application class so test slices do not start background
+ * jobs.
+ */
+@Configuration
+@EnableScheduling
+public class SchedulingConfig {
+}
@@ -0,0 +1,27 @@
+package com.taskmanager.config;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+/**
+ * Counts the SQL statements Hibernate prepares on the current thread. A JDBC
+ * batch is prepared once, so the count tracks database round trips rather than
+ * rows. Costs one thread-local increment per statement.
+ */
+public class SqlStatementCounter implements StatementInspector {
+
+	private static final ThreadLocal<int[]> COUNT = ThreadLocal.withInitial(() -> new int[1]);
+
+	@Override
+	public String inspect(String sql) {
+		COUNT.get()[0]++;
+		return sql;
+	}
+
+	public static void reset() {
+		COUNT.get()[0] = 0;
+	}
+
+	public static int current() {
+		return COUNT.get()[0];
+	}
+}
@@ -0,0 +1,46 @@
+package com.taskmanager.config;
+
+import java.io.IOException;
+
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records how many SQL statements each request sent, as
+ * {@code http.server.requests.db.statements} tagged like
+ * {@code http.server.requests}. Requests that matched no handler are skipped.
+ */
+@RequiredArgsConstructor
+public class SqlStatementMetricsFilter extends OncePerRequestFilter {
+
+	static final String METRIC = "http.server.requests.db.statements";
+
+	private final MeterRegistry registry;
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		SqlStatementCounter.reset();
+		try {
+			chain.doFilter(request, response);
+		} finally {
+			Object uri = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+			if (uri != null) {
+				DistributionSummary.builder(METRIC)
+						.baseUnit("statements")
+						.tag("method", request.getMethod())
+						.tag("uri", uri.toString())
+						.register(registry)
+						.record(SqlStatementCounter.current());
+			}
+		}
+	}
+}
@@ -0,0 +1,37 @@
+package com.taskmanager.config;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+
+import com.taskmanager.task.api.TaskStatusCoalescer;
+import com.taskmanager.task.api.TaskStatusFlushFilter;
+import com.taskmanager.task.application.TaskProperties;
+import com.taskmanager.task.application.TaskService;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Write-behind for task status changes. Off by default: every
+ * {@code PATCH /{id}/status} is then its own transaction.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "app.tasks.status-coalescing", name = "enabled", havingValue = "true")
+public class StatusCoalescingConfig {
+
+	@Bean
+	TaskStatusCoalescer taskStatusCoalescer(TaskService service, TaskProperties properties, MeterRegistry registry) {
+		return new TaskStatusCoalescer(service, properties, registry);
+	}
+
+	// after rate limiting, so rejected requests do not trigger flushes
+	@Bean
+	FilterRegistrationBean<TaskStatusFlushFilter> taskStatusFlushFilter(TaskStatusCoalescer coalescer) {
+		var registration = new FilterRegistrationBean<>(new TaskStatusFlushFilter(coalescer));
+		registration.addUrlPatterns("/api/tasks/*");
+		registration.setOrder(Ordered.HIGHEST_PRECEDENCE + 4);
+		return registration;
+	}
+}
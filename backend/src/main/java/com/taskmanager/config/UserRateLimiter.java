@@ -0,0 +1,72 @@
+package com.taskmanager.config;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongSupplier;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-user token buckets kept as a single {@code long} each, the bucket's
+ * theoretical arrival time (GCRA): a request is let through when moving that
+ * time one emission interval ahead keeps it within {@code burst} intervals of
+ * now. Admission is one cache lookup and one compare-and-set, without locks or
+ * allocation once a user's bucket exists.
+ * <p>
+ * Buckets live in a cache bounded to {@code maxUsers} entries that drops them
+ * once idle for {@code idleTimeout}; by then they have refilled and are
+ * equivalent to a new one. A flood of distinct user ids evicts the least
+ * recently used buckets rather than growing the heap; an evicted user starts
+ * again with a full bucket.
+ */
+public class UserRateLimiter {
+
+	private final Cache<UUID, AtomicLong> buckets;
+	private final long interval;
+	private final long capacity;
+	private final LongSupplier nanoTime;
+
+	public UserRateLimiter(RateLimitProperties properties) {
+		this(properties.getRequestsPerSecond(), properties.getBurst(), properties.getIdleTimeout(),
+				properties.getMaxUsers(), System::nanoTime);
+	}
+
+	UserRateLimiter(double requestsPerSecond, int burst, Duration idleTimeout, long maxUsers, LongSupplier nanoTime) {
+		this.interval = (long) (1_000_000_000L / requestsPerSecond);
+		this.capacity = interval * burst;
+		this.nanoTime = nanoTime;
+		this.buckets = Caffeine.newBuilder()
+				.maximumSize(maxUsers)
+				.expireAfterAccess(idleTimeout)
+				.ticker(nanoTime::getAsLong)
+				.build();
+	}
+
+	/** Takes a token for the user; returns 0 when granted, else nanoseconds until one is available. */
+	public long tryAcquire(UUID user) {
+		long now = nanoTime.getAsLong();
+		AtomicLong bucket = buckets.getIfPresent(user);
+		if (bucket == null) {
+			// nanoTime may be negative; a bucket due now is full
+			bucket = buckets.get(user, key -> new AtomicLong(now));
+		}
+		while (true) {
+			long arrival = bucket.get();
+			long next = (arrival - now > 0 ? arrival : now) + interval;
+			long excess = next - now - capacity;
+			if (excess > 0) {
+				return excess;
+			}
+			if (bucket.compareAndSet(arrival, next)) {
+				return 0;
+			}
+		}
+	}
+
+	long size() {
+		buckets.cleanUp();
+		return buckets.estimatedSize();
+	}
+}
@@ -0,0 +1,85 @@
+package com.taskmanager.task.api;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.util.UUID;
+import java.util.zip.GZIPOutputStream;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.util.unit.DataSize;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.taskmanager.task.application.TaskProperties;
+
+/**
+ * Final JSON bytes of each user's board, plus a gzip copy when response
+ * compression would apply, tagged with the board version they were rendered
+ * from and the number of tasks in them. A hit is written to the socket as is.
+ */
+@Component
+public class TaskBoardResponseCache {
+
+	private final Cache<Key, RenderedBoard> boards;
+	private final boolean compression;
+	private final long compressionMinSize;
+
+	public TaskBoardResponseCache(TaskProperties properties,
+			@Value("${server.compression.enabled:false}") boolean compression,
+			@Value("${server.compression.min-response-size:2KB}") DataSize compressionMinSize) {
+		this.boards = Caffeine.newBuilder()
+				.maximumWeight(properties.getResponseCache().getMaximumSize().toBytes())
+				.weigher((Key key, RenderedBoard board) -> board.weight())
+				.expireAfterWrite(properties.getResponseCache().getTtl())
+				.build();
+		this.compression = compression;
+		this.compressionMinSize = compressionMinSize.toBytes();
+	}
+
+	/** Returns the cached board if it was rendered from {@code version}. */
+	public RenderedBoard get(UUID userId, long version) {
+		return get(userId, null, version);
+	}
+
+	/**
+	 * Returns the cached rendering of a sparse fieldset ({@code null} for all
+	 * fields) if it was rendered from {@code version}.
+	 */
+	public RenderedBoard get(UUID userId, String fields, long version) {
+		RenderedBoard board = boards.getIfPresent(new Key(userId, fields));
+		return board != null && board.version() == version ? board : null;
+	}
+
+	public RenderedBoard put(UUID userId, long version, byte[] json, int tasks) {
+		return put(userId, null, version, json, tasks);
+	}
+
+	public RenderedBoard put(UUID userId, String fields, long version, byte[] json, int tasks) {
+		byte[] gzip = compression && json.length >= compressionMinSize ? gzip(json) : null;
+		RenderedBoard board = new RenderedBoard(version, json, gzip, tasks);
+		boards.put(new Key(userId, fields), board);
+		return board;
+	}
+
+	private static byte[] gzip(byte[] json) {
+		var bytes = new ByteArrayOutputStream(json.length / 4);
+		try (var out = new GZIPOutputStream(bytes)) {
+			out.write(json);
+		} catch (IOException ex) {
+			throw new UncheckedIOException(ex);
+		}
+		return bytes.toByteArray();
+	}
+
+	private record Key(UUID userId, String fields) {
+	}
+
+	public record RenderedBoard(long version, byte[] json, byte[] gzip, int tasks) {
+
+		int weight() {
+			return json.length + (gzip == null ? 0 : gzip.length);
+		}
+	}
+}
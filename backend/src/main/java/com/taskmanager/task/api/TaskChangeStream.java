@@ -0,0 +1,204 @@
+package com.taskmanager.task.api;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.http.MediaType;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.taskmanager.task.application.TaskChangeType;
+import com.taskmanager.task.application.TaskChangedEvent;
+import com.taskmanager.task.application.TaskProperties;
+import com.taskmanager.task.dto.TaskResponse;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes committed task changes to the user's open SSE connections. Publishing
+ * only enqueues: each connection has a bounded buffer drained on the stream's
+ * own bounded thread pool, so a slow client never holds up the writer, other
+ * clients or the application's other async work. A client that lets its
+ * buffer fill up, finds the pool saturated or blocks a write past the send
+ * timeout is disconnected and reloads the board when it reconnects. The
+ * blocked write itself ends when the servlet container's write timeout fires.
+ */
+@Slf4j
+@Component
+public class TaskChangeStream {
+
+	static final int BUFFER_SIZE = 256;
+
+	private final Executor executor;
+	private final Duration timeout;
+	private final long sendTimeoutNanos;
+	private final ConcurrentMap<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+
+	@Autowired
+	public TaskChangeStream(TaskProperties properties) {
+		this(new ThreadPoolExecutor(properties.getStream().getThreads(), properties.getStream().getThreads(), 0,
+				TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(properties.getStream().getQueueCapacity()),
+				new CustomizableThreadFactory("task-stream-")), properties);
+	}
+
+	TaskChangeStream(Executor executor, TaskProperties properties) {
+		this.executor = executor;
+		this.timeout = properties.getStream().getTimeout();
+		this.sendTimeoutNanos = properties.getStream().getSendTimeout().toNanos();
+	}
+
+	public SseEmitter subscribe(UUID userId) {
+		SseEmitter emitter = new SseEmitter(timeout.toMillis());
+		Subscriber subscriber = new Subscriber(userId, emitter);
+		subscribers.computeIfAbsent(userId, id -> ConcurrentHashMap.newKeySet()).add(subscriber);
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(emitter::complete);
+		emitter.onError(error -> remove(subscriber));
+		return emitter;
+	}
+
+	int subscribers(UUID userId) {
+		Set<Subscriber> set = subscribers.get(userId);
+		return set == null ? 0 : set.size();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	void onTaskChanged(TaskChangedEvent event) {
+		Set<Subscriber> set = subscribers.get(event.userId());
+		if (set != null) {
+			TaskChange change = new TaskChange(event.type(), event.taskId(), event.task());
+			set.forEach(subscriber -> subscriber.offer(change));
+		}
+	}
+
+	/** Disconnects subscribers whose current write has been blocked for longer than the send timeout. */
+	@Scheduled(fixedDelayString = "${app.tasks.stream.send-timeout:10s}")
+	public void dropStalled() {
+		long now = System.nanoTime();
+		subscribers.values().forEach(set -> set.forEach(subscriber -> subscriber.dropIfStalled(now)));
+	}
+
+	@PreDestroy
+	void shutdown() {
+		if (executor instanceof ExecutorService service) {
+			service.shutdownNow();
+		}
+	}
+
+	private void remove(Subscriber subscriber) {
+		subscribers.computeIfPresent(subscriber.userId, (id, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+	}
+
+	/** Payload of one SSE event; {@code task} is {@code null} for deletions. */
+	public record TaskChange(TaskChangeType type, long id, TaskResponse task) {
+	}
+
+	private final class Subscriber {
+
+		private final UUID userId;
+		private final SseEmitter emitter;
+		private final Queue<TaskChange> buffer = new ArrayBlockingQueue<>(BUFFER_SIZE);
+		/** Held by whoever may call the emitter: a drain, or the thread completing it. */
+		private final AtomicBoolean draining = new AtomicBoolean();
+		private volatile boolean closed;
+		/** When the send in progress started, or 0 between sends. */
+		private volatile long sendingSince;
+
+		Subscriber(UUID userId, SseEmitter emitter) {
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+		void offer(TaskChange change) {
+			if (closed) {
+				return;
+			}
+			if (!buffer.offer(change)) {
+				log.warn("Closing task stream of user {}: {} changes pending", userId, BUFFER_SIZE);
+				close();
+				return;
+			}
+			schedule();
+		}
+
+		void dropIfStalled(long now) {
+			long since = sendingSince;
+			if (since != 0 && now - since > sendTimeoutNanos && !closed) {
+				log.warn("Closing task stream of user {}: a write blocked for {}", userId,
+						Duration.ofNanos(now - since));
+				// the blocked drain completes the emitter once its write returns
+				close();
+			}
+		}
+
+		/** Stops the stream; the emitter is completed now unless a drain is sending, which then does it. */
+		private void close() {
+			closed = true;
+			remove(this);
+			buffer.clear();
+			if (draining.compareAndSet(false, true)) {
+				emitter.complete();
+			}
+		}
+
+		private void schedule() {
+			if (draining.compareAndSet(false, true)) {
+				try {
+					executor.execute(this::drain);
+				} catch (RejectedExecutionException ex) {
+					log.warn("Closing task stream of user {}: stream executor saturated", userId);
+					draining.set(false);
+					close();
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				TaskChange change;
+				while (!closed && (change = buffer.poll()) != null) {
+					sendingSince = System.nanoTime();
+					emitter.send(SseEmitter.event()
+							.name(change.type().name().toLowerCase(Locale.ROOT))
+							.data(change, MediaType.APPLICATION_JSON));
+					sendingSince = 0;
+				}
+			} catch (IOException | IllegalStateException ex) {
+				closed = true;
+				remove(this);
+				buffer.clear();
+			} finally {
+				sendingSince = 0;
+				draining.set(false);
+			}
+			if (closed) {
+				if (draining.compareAndSet(false, true)) {
+					emitter.complete();
+				}
+			} else if (!buffer.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+}
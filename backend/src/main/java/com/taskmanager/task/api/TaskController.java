@@ -1,9 +1,14 @@
 package com.taskmanager.task.api;
 
+import java.io.IOException;
+import java.io.UncheckedIOException;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -14,12 +19,21 @@ import org.springframework.web.bind.annotation.PutMapping;
 import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
 
 import com.taskmanager.common.response.*;
 import com.taskmanager.task.application.*;
+import com.taskmanager.task.domain.TaskStatus;
 import com.taskmanager.task.dto.*;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 
@@ -28,31 +42,154 @@ import lombok.RequiredArgsConstructor;
 @RequestMapping("/api/tasks")
 public class TaskController {
 
+	private static final MediaType APPLICATION_NDJSON = MediaType.parseMediaType("application/x-ndjson");
+
 	private final TaskService service;
+	private final ObjectMapper objectMapper;
+	private final TaskBoardVersions boardVersions;
+	private final TaskBoardResponseCache responseCache;
+	private final TaskChangeStream changeStream;
+	private final TaskFields taskFields;
+	private final TaskIdempotency idempotency;
+	private final MeterRegistry meterRegistry;
+	/** Present only with {@code app.tasks.status-coalescing.enabled}. */
+	private final ObjectProvider<TaskStatusCoalescer> statusCoalescer;
 
+	/**
+	 * Serves the board from pre-serialized bytes when nothing was written since
+	 * they were rendered. The version is read before the tasks, so a render that
+	 * races a write is stored under the old version and never served again.
+	 */
 	@GetMapping
-	public ResponseEntity<ApiResponse<List<TaskResponse>>> getTasks(@RequestHeader("X-USER-ID") UUID userId) {
-		var taskResponse = service.getAll(userId);
-		var apiResponse = new ApiResponse<>(taskResponse, ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS );
+	public ResponseEntity<byte[]> getTasks(@RequestHeader("X-USER-ID") UUID userId,
+			@RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding,
+			@RequestParam(required = false) String fields) throws JsonProcessingException {
+		List<String> selected = fields == null ? null : TaskFields.parse(fields);
+		String view = selected == null ? null : String.join(",", selected);
+		long version = boardVersions.current(userId);
+		var board = responseCache.get(userId, view, version);
+		if (board == null) {
+			byte[] json;
+			List<?> tasks;
+			if (selected == null) {
+				tasks = service.getAll(userId);
+				json = objectMapper.writeValueAsBytes(new ApiResponse<>(tasks, ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS));
+			} else {
+				tasks = selected.contains(TaskFields.DESCRIPTION) ? service.getAll(userId)
+						: service.getSummaries(userId);
+				json = taskFields.write(new ApiResponse<>(tasks, ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS), selected);
+			}
+			board = responseCache.put(userId, view, version, json, tasks.size());
+		}
+		// every board served, cached or not, so the sizes are the ones clients get
+		meterRegistry.summary("tasks.board.size").record(board.tasks());
+
+		var response = ResponseEntity.ok().contentType(MediaType.APPLICATION_JSON)
+				.header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+		if (board.gzip() != null && acceptEncoding != null && acceptEncoding.contains("gzip")) {
+			return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(board.gzip());
+		}
+		return response.body(board.json());
+	}
+
+	@GetMapping("/search")
+	public ResponseEntity<ApiResponse<TaskPage>> search(@RequestHeader("X-USER-ID") UUID userId,
+			@RequestParam String q, @RequestParam(required = false) Integer limit,
+			@RequestParam(required = false) String cursor) {
+		var page = service.search(userId, q, limit, cursor);
+		var apiResponse = new ApiResponse<>(page, ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS);
+		return ResponseEntity.ok(apiResponse);
+	}
+
+	@GetMapping("/stats")
+	public ResponseEntity<ApiResponse<TaskStats>> getStats(@RequestHeader("X-USER-ID") UUID userId) {
+		var apiResponse = new ApiResponse<>(service.getStats(userId), ApiMessage.TASK_STATS_RETRIEVED, MessageType.SUCCESS);
+		return ResponseEntity.ok(apiResponse);
+	}
+
+	@GetMapping("/changes")
+	public ResponseEntity<ApiResponse<TaskChanges>> getChanges(@RequestHeader("X-USER-ID") UUID userId,
+			@RequestParam(required = false) String since) {
+		var changes = service.getChanges(userId, since);
+		var apiResponse = new ApiResponse<>(changes, ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS);
+		return ResponseEntity.ok(apiResponse);
+	}
+
+	@GetMapping(path = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public SseEmitter stream(@RequestHeader("X-USER-ID") UUID userId) {
+		return changeStream.subscribe(userId);
+	}
+
+	@GetMapping(params = "limit")
+	public ResponseEntity<ApiResponse<TaskPage>> getTasksPage(@RequestHeader("X-USER-ID") UUID userId,
+			@RequestParam(required = false) TaskStatus status, @RequestParam Integer limit,
+			@RequestParam(required = false) String cursor) {
+		var page = service.getPage(userId, status, limit, cursor);
+		var apiResponse = new ApiResponse<>(page, ApiMessage.TASKS_RETRIEVED, MessageType.SUCCESS);
 		return ResponseEntity.ok(apiResponse);
 	}
 
+	@GetMapping("/export")
+	public ResponseEntity<StreamingResponseBody> export(@RequestHeader("X-USER-ID") UUID userId) {
+		ObjectWriter writer = objectMapper.writerFor(TaskResponse.class);
+		StreamingResponseBody body = outputStream -> service.export(userId, task -> {
+			try {
+				outputStream.write(writer.writeValueAsBytes(task));
+				outputStream.write('\n');
+			} catch (IOException ex) {
+				throw new UncheckedIOException(ex);
+			}
+		});
+		return ResponseEntity.ok().contentType(APPLICATION_NDJSON).body(body);
+	}
+
 	@GetMapping("/{id}")
 	public ResponseEntity<ApiResponse<TaskResponse>> getTask(@RequestHeader("X-USER-ID") UUID userId,
-			@PathVariable Long id) {
+			@PathVariable Long id, @RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch) {
 		var taskResponse = service.getById(userId, id);
+		if (ifNoneMatch != null && TaskETags.matches(ifNoneMatch, taskResponse.version())) {
+			return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(TaskETags.of(taskResponse.version())).build();
+		}
 		var apiResponse = new ApiResponse<>(taskResponse, ApiMessage.TASK_RETRIEVED,  MessageType.SUCCESS);
-		return ResponseEntity.ok(apiResponse);
+		return ResponseEntity.ok().eTag(TaskETags.of(taskResponse.version())).body(apiResponse);
 	}
 
+	/**
+	 * With an {@code Idempotency-Key}, retries get the first response replayed
+	 * instead of creating the task again.
+	 */
 	@PostMapping
-	public ResponseEntity<ApiResponse<TaskResponse>> create(@Valid @RequestBody TaskUpsertRequest request,
-			@RequestHeader("X-USER-ID") UUID userId) {
+	public ResponseEntity<?> create(@Valid @RequestBody TaskUpsertRequest request,
+			@RequestHeader("X-USER-ID") UUID userId,
+			@RequestHeader(value = TaskIdempotency.HEADER, required = false) String idempotencyKey) {
+		if (idempotencyKey != null) {
+			return idempotency.execute(userId, idempotencyKey, request, () -> create(request, userId));
+		}
+		return create(request, userId);
+	}
+
+	private ResponseEntity<ApiResponse<TaskResponse>> create(TaskUpsertRequest request, UUID userId) {
 		var taskResponse = service.create(request, userId);
 		var apiResponse = new ApiResponse<>(taskResponse, ApiMessage.TASK_CREATED,  MessageType.SUCCESS);
 		return ResponseEntity.status(HttpStatus.CREATED).body(apiResponse);
 	}
 
+	@PostMapping("/batch")
+	public ResponseEntity<ApiResponse<List<TaskBatchResult>>> batch(@Valid @RequestBody TaskBatchRequest request,
+			@RequestHeader("X-USER-ID") UUID userId) {
+		var results = service.batch(userId, request.operations());
+		var apiResponse = new ApiResponse<>(results, ApiMessage.TASKS_BATCH_PROCESSED, MessageType.SUCCESS);
+		return ResponseEntity.ok(apiResponse);
+	}
+
+	@PostMapping("/{id}/move")
+	public ResponseEntity<ApiResponse<TaskResponse>> move(@PathVariable Long id,
+			@RequestHeader("X-USER-ID") UUID userId, @RequestBody TaskMoveRequest request) {
+		var taskResponse = service.move(userId, id, request);
+		var apiResponse = new ApiResponse<>(taskResponse, ApiMessage.TASK_MOVED, MessageType.SUCCESS);
+		return ResponseEntity.ok().eTag(TaskETags.of(taskResponse.version())).body(apiResponse);
+	}
+
 	@DeleteMapping("/{id}")
 	public ResponseEntity<ApiResponse<Object>> delete(@PathVariable Long id, @RequestHeader("X-USER-ID") UUID userId) {
 		service.delete(userId, id);
@@ -62,17 +199,23 @@ public class TaskController {
 
 	@PatchMapping("/{id}/status")
 	public ResponseEntity<ApiResponse<TaskResponse>> updateStatus(@PathVariable Long id,
-			@RequestHeader("X-USER-ID") UUID userId, @Valid @RequestBody TaskStatusUpdateRequest request) {
-		var apiResponse = new ApiResponse<>(service.updateStatus(userId, id, request.status()),
-				ApiMessage.TASK_UPDATED,  MessageType.SUCCESS);
-		return ResponseEntity.ok(apiResponse);
+			@RequestHeader("X-USER-ID") UUID userId, @Valid @RequestBody TaskStatusUpdateRequest request,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		Long expectedVersion = TaskETags.expectedVersion(ifMatch);
+		TaskStatusCoalescer coalescer = statusCoalescer.getIfAvailable();
+		var taskResponse = coalescer != null ? coalescer.updateStatus(userId, id, request.status(), expectedVersion)
+				: service.updateStatus(userId, id, request.status(), expectedVersion);
+		var apiResponse = new ApiResponse<>(taskResponse, ApiMessage.TASK_UPDATED,  MessageType.SUCCESS);
+		return ResponseEntity.ok().eTag(TaskETags.of(taskResponse.version())).body(apiResponse);
 	}
 
 	@PutMapping("/{id}")
 	public ResponseEntity<ApiResponse<TaskResponse>> update(@PathVariable Long id,
-			@RequestHeader("X-USER-ID") UUID userId, @Valid @RequestBody TaskUpsertRequest request) {
-		var apiResponse = new ApiResponse<>(service.update(userId, id, request), ApiMessage.TASK_UPDATED,  MessageType.SUCCESS);
-		return ResponseEntity.ok(apiResponse);
+			@RequestHeader("X-USER-ID") UUID userId, @Valid @RequestBody TaskUpsertRequest request,
+			@RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch) {
+		var taskResponse = service.update(userId, id, request, TaskETags.expectedVersion(ifMatch));
+		var apiResponse = new ApiResponse<>(taskResponse, ApiMessage.TASK_UPDATED,  MessageType.SUCCESS);
+		return ResponseEntity.ok().eTag(TaskETags.of(taskResponse.version())).body(apiResponse);
 	}
 
 }
@@ -0,0 +1,58 @@
+package com.taskmanager.task.api;
+
+/**
+ * Strong entity tags built from the task version, e.g. {@code "3"}.
+ */
+final class TaskETags {
+
+	/** Version no task can have, so an unparsable If-Match always fails. */
+	private static final long UNMATCHABLE = -1L;
+
+	private TaskETags() {
+	}
+
+	static String of(long version) {
+		return "\"" + version + "\"";
+	}
+
+	/**
+	 * Returns the version an If-Match header requires, or {@code null} when the
+	 * header is absent or {@code *}.
+	 */
+	static Long expectedVersion(String ifMatch) {
+		if (ifMatch == null || ifMatch.isBlank() || "*".equals(ifMatch.trim())) {
+			return null;
+		}
+		Long version = parse(ifMatch);
+		return version == null ? UNMATCHABLE : version;
+	}
+
+	/** Whether an If-None-Match header lists the given version. */
+	static boolean matches(String ifNoneMatch, long version) {
+		if (ifNoneMatch == null) {
+			return false;
+		}
+		for (String tag : ifNoneMatch.split(",")) {
+			Long candidate = parse(tag);
+			if ("*".equals(tag.trim()) || (candidate != null && candidate == version)) {
+				return true;
+			}
+		}
+		return false;
+	}
+
+	private static Long parse(String tag) {
+		String value = tag.trim();
+		if (value.startsWith("W/")) {
+			value = value.substring(2);
+		}
+		if (value.length() < 2 || value.charAt(0) != '"' || value.charAt(value.length() - 1) != '"') {
+			return null;
+		}
+		try {
+			return Long.valueOf(value.substring(1, value.length() - 1));
+		} catch (NumberFormatException ex) {
+			return null;
+		}
+	}
+}
@@ -0,0 +1,65 @@
+package com.taskmanager.task.api;
+
+import java.lang.reflect.RecordComponent;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.annotation.JsonFilter;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.common.response.ApiMessage;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskSummary;
+
+/**
+ * Sparse fieldsets for task listings, e.g. {@code fields=title,status}. Only
+ * the named properties (plus {@code id}) are rendered, and a selection without
+ * {@code description} is read through the summary projection so the TEXT
+ * column never leaves the database.
+ */
+@Component
+class TaskFields {
+
+	static final String DESCRIPTION = "description";
+
+	private static final String FILTER = "taskFields";
+	private static final List<String> NAMES = Arrays.stream(TaskResponse.class.getRecordComponents())
+			.map(RecordComponent::getName).toList();
+
+	private final ObjectMapper filtering;
+
+	TaskFields(ObjectMapper objectMapper) {
+		this.filtering = objectMapper.copy()
+				.addMixIn(TaskResponse.class, Filtered.class)
+				.addMixIn(TaskSummary.class, Filtered.class);
+	}
+
+	/** Validated selection in declaration order, always including {@code id}. */
+	static List<String> parse(String fields) {
+		Set<String> requested = new HashSet<>();
+		for (String field : fields.split(",")) {
+			String name = field.trim();
+			if (!name.isEmpty() && !NAMES.contains(name)) {
+				throw new BadRequestException(ApiMessage.INVALID_FIELDS);
+			}
+			requested.add(name);
+		}
+		return NAMES.stream().filter(name -> name.equals("id") || requested.contains(name)).toList();
+	}
+
+	byte[] write(Object value, List<String> fields) throws JsonProcessingException {
+		var filter = SimpleBeanPropertyFilter.filterOutAllExcept(new HashSet<>(fields));
+		return filtering.writer(new SimpleFilterProvider().addFilter(FILTER, filter)).writeValueAsBytes(value);
+	}
+
+	@JsonFilter(FILTER)
+	private interface Filtered {
+	}
+}
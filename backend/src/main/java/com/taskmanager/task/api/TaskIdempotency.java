@@ -0,0 +1,182 @@
+package com.taskmanager.task.api;
+
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Instant;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.common.exception.*;
+import com.taskmanager.common.response.*;
+import com.taskmanager.task.application.TaskProperties;
+import com.taskmanager.task.domain.TaskIdempotencyKey;
+import com.taskmanager.task.domain.TaskIdempotencyKeyRepository;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+
+/**
+ * Runs a request at most once per {@code Idempotency-Key} and replays the
+ * stored response to retries. The key, the request's own writes and its
+ * response commit in one transaction, so a key is never left behind without
+ * its response, and a failed request leaves nothing.
+ * <p>
+ * Duplicates on this node wait on a lock striped by key before they start a
+ * transaction, so a retry storm queues threads rather than pool connections.
+ * A duplicate running at the same time on another node blocks on the
+ * uncommitted key in the primary key of {@code task_idempotency_keys}, and
+ * then either replays the committed response or, if the first request rolled
+ * back, runs itself.
+ */
+@Component
+public class TaskIdempotency {
+
+	public static final String HEADER = "Idempotency-Key";
+	public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+	static final int MAX_KEY_LENGTH = 255;
+	private static final int STRIPES = 64;
+
+	private final TaskIdempotencyKeyRepository keys;
+	private final EntityManager entityManager;
+	private final ObjectMapper objectMapper;
+	private final TaskProperties properties;
+	private final TransactionTemplate transactions;
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+	public TaskIdempotency(TaskIdempotencyKeyRepository keys, EntityManager entityManager, ObjectMapper objectMapper,
+			TaskProperties properties, PlatformTransactionManager transactionManager) {
+		this.keys = keys;
+		this.entityManager = entityManager;
+		this.objectMapper = objectMapper;
+		this.properties = properties;
+		this.transactions = new TransactionTemplate(transactionManager);
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	public ResponseEntity<byte[]> execute(UUID userId, String key, Object request, Supplier<ResponseEntity<?>> action) {
+		if (key.isBlank() || key.length() > MAX_KEY_LENGTH) {
+			throw new BadRequestException(ApiMessage.INVALID_IDEMPOTENCY_KEY);
+		}
+		String requestHash = hash(request);
+		var id = new TaskIdempotencyKey.Key(userId, key);
+		ReentrantLock lock = locks[Math.floorMod(id.hashCode(), STRIPES)];
+		lock.lock();
+		try {
+			return run(id, requestHash, action);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	@Scheduled(cron = "${app.tasks.idempotency.purge-cron:0 15 * * * *}")
+	public void purgeExpired() {
+		transactions.executeWithoutResult(tx -> keys.deleteExpired(Instant.now()));
+	}
+
+	private ResponseEntity<byte[]> run(TaskIdempotencyKey.Key id, String requestHash,
+			Supplier<ResponseEntity<?>> action) {
+		try {
+			return transactions.execute(tx -> {
+				Instant now = Instant.now();
+				var existing = keys.findById(id).orElse(null);
+				if (existing != null) {
+					if (existing.getExpiresAt().isAfter(now)) {
+						return replay(existing, requestHash);
+					}
+					keys.delete(existing);
+					entityManager.flush();
+				}
+				var reserved = reserve(id, requestHash, now);
+
+				// the action joins this transaction, so its writes commit with the key
+				ResponseEntity<?> response = action.get();
+				byte[] body = json(response.getBody());
+				reserved.setResponseStatus(response.getStatusCode().value());
+				reserved.setResponseBody(new String(body, StandardCharsets.UTF_8));
+				return ResponseEntity.status(response.getStatusCode()).contentType(MediaType.APPLICATION_JSON)
+						.body(body);
+			});
+		} catch (KeyTakenException ex) {
+			// the duplicate committed first; its response is there now
+			var stored = transactions.execute(tx -> keys.findById(id).orElse(null));
+			if (stored == null) {
+				throw new ConflictException(ApiMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+			}
+			return replay(stored, requestHash);
+		}
+	}
+
+	/**
+	 * Inserts the key right away: a concurrent duplicate on another node blocks
+	 * on it until this transaction ends, then fails on the primary key if it
+	 * committed.
+	 */
+	private TaskIdempotencyKey reserve(TaskIdempotencyKey.Key id, String requestHash, Instant now) {
+		var reserved = TaskIdempotencyKey.builder()
+				.userId(id.getUserId())
+				.idempotencyKey(id.getIdempotencyKey())
+				.requestHash(requestHash)
+				.expiresAt(now.plus(properties.getIdempotency().getTtl()))
+				.build();
+		try {
+			entityManager.persist(reserved);
+			entityManager.flush();
+		} catch (DataIntegrityViolationException | PersistenceException ex) {
+			throw new KeyTakenException();
+		}
+		return reserved;
+	}
+
+	private ResponseEntity<byte[]> replay(TaskIdempotencyKey stored, String requestHash) {
+		if (stored.getResponseBody() == null) {
+			throw new ConflictException(ApiMessage.IDEMPOTENCY_KEY_IN_PROGRESS);
+		}
+		if (!stored.getRequestHash().equals(requestHash)) {
+			throw new BadRequestException(ApiMessage.IDEMPOTENCY_KEY_REUSED);
+		}
+		return ResponseEntity.status(stored.getResponseStatus())
+				.contentType(MediaType.APPLICATION_JSON)
+				.header(REPLAYED_HEADER, "true")
+				.body(stored.getResponseBody().getBytes(StandardCharsets.UTF_8));
+	}
+
+	private String hash(Object request) {
+		try {
+			return HexFormat.of().formatHex(MessageDigest.getInstance("SHA-256").digest(json(request)));
+		} catch (NoSuchAlgorithmException ex) {
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	private byte[] json(Object value) {
+		try {
+			return objectMapper.writeValueAsBytes(value);
+		} catch (JsonProcessingException ex) {
+			throw new UncheckedIOException(ex);
+		}
+	}
+
+	/** Rolls back a request whose key another transaction inserted first. */
+	private static final class KeyTakenException extends RuntimeException {
+
+		KeyTakenException() {
+			super(null, null, false, false);
+		}
+	}
+}
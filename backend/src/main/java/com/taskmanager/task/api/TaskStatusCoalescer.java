@@ -0,0 +1,245 @@
+package com.taskmanager.task.api;
+
+import java.time.Instant;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import org.springframework.scheduling.annotation.Scheduled;
+
+import com.taskmanager.common.exception.*;
+import com.taskmanager.common.response.*;
+import com.taskmanager.task.application.TaskProperties;
+import com.taskmanager.task.application.TaskService;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskResponse;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind for status changes. Changes to the same task within one window
+ * collapse into its last status, and each user's buffered tasks are written
+ * in one transaction by {@link TaskService#applyStatuses}. Anything else the
+ * user sends flushes their buffer first (see {@link TaskStatusFlushFilter}),
+ * so reads and other writes never see the buffer. Flushes of one user are
+ * serialized on a lock striped by user, which keeps their writes in order. A
+ * user stays marked as flushing until the write committed, so a request that
+ * arrives while the buffer is already drained still waits for it.
+ */
+@Slf4j
+public class TaskStatusCoalescer {
+
+	private static final int STRIPES = 64;
+
+	private final TaskService service;
+	private final TaskProperties.StatusCoalescing config;
+	private final ConcurrentHashMap<UUID, Map<Long, Pending>> buffers = new ConcurrentHashMap<>();
+	private final Set<UUID> flushing = ConcurrentHashMap.newKeySet();
+	private final AtomicInteger pending = new AtomicInteger();
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+	private final DistributionSummary coalesced;
+	private final MeterRegistry registry;
+
+	public TaskStatusCoalescer(TaskService service, TaskProperties properties, MeterRegistry registry) {
+		this.service = service;
+		this.config = properties.getStatusCoalescing();
+		this.registry = registry;
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+		// mean = status changes per row written, the coalescing ratio
+		this.coalesced = DistributionSummary.builder("tasks.status.coalesced")
+				.description("Status changes folded into each coalesced row write")
+				.register(registry);
+		registry.gauge("tasks.status.coalescing.pending", pending);
+	}
+
+	/**
+	 * Buffers the change, or writes it synchronously when it is conditional
+	 * (the version check needs the written row) or the buffer is full.
+	 */
+	public TaskResponse updateStatus(UUID userId, long taskId, TaskStatus status, Long expectedVersion) {
+		if (expectedVersion != null) {
+			return updateSynchronously(userId, taskId, status, expectedVersion, "if-match");
+		}
+
+		Pending[] entry = new Pending[1];
+		TaskResponse expected = supersede(userId, taskId, status, entry);
+		if (entry[0] == null) {
+			if (pending.get() >= config.getMaxPending()) {
+				return updateSynchronously(userId, taskId, status, null, "full");
+			}
+			// the first change of a task in this window answers from its current row, once committed
+			awaitFlush(userId);
+			TaskResponse current = service.getById(userId, taskId);
+			TaskResponse[] submitted = new TaskResponse[1];
+			buffers.compute(userId, (id, tasks) -> {
+				if (tasks == null) {
+					tasks = new LinkedHashMap<>();
+				}
+				entry[0] = tasks.computeIfAbsent(taskId, key -> {
+					pending.incrementAndGet();
+					return new Pending(current);
+				});
+				submitted[0] = entry[0].submit(status);
+				return tasks;
+			});
+			expected = submitted[0];
+		}
+
+		return config.getDurability() == TaskProperties.Durability.BUFFERED ? expected : await(userId, entry[0]);
+	}
+
+	/** Writes the user's buffered changes, if any, before returning. */
+	public void flush(UUID userId) {
+		// buffers before flushing: a flush marks the user before it drains the buffer
+		if (!buffers.containsKey(userId) && !flushing.contains(userId)) {
+			return;
+		}
+		ReentrantLock lock = lock(userId);
+		lock.lock();
+		try {
+			flushing.add(userId);
+			Map<Long, Pending> drained = buffers.remove(userId);
+			if (drained != null) {
+				pending.addAndGet(-drained.size());
+				write(userId, drained);
+			}
+		} finally {
+			flushing.remove(userId);
+			lock.unlock();
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${app.tasks.status-coalescing.window:50ms}")
+	@PreDestroy
+	public void flushAll() {
+		for (UUID userId : buffers.keySet()) {
+			flush(userId);
+		}
+	}
+
+	/** Waits for a flush of the user that already drained their buffer but has not committed yet. */
+	private void awaitFlush(UUID userId) {
+		if (flushing.contains(userId)) {
+			ReentrantLock lock = lock(userId);
+			lock.lock();
+			lock.unlock();
+		}
+	}
+
+	private ReentrantLock lock(UUID userId) {
+		return locks[Math.floorMod(userId.hashCode(), STRIPES)];
+	}
+
+	/** Folds the change into the task's buffered entry, if it has one, and returns the row it now expects. */
+	private TaskResponse supersede(UUID userId, long taskId, TaskStatus status, Pending[] entry) {
+		TaskResponse[] expected = new TaskResponse[1];
+		buffers.computeIfPresent(userId, (id, tasks) -> {
+			entry[0] = tasks.get(taskId);
+			if (entry[0] != null) {
+				expected[0] = entry[0].submit(status);
+			}
+			return tasks;
+		});
+		return expected[0];
+	}
+
+	/**
+	 * Waits for the scheduled flush; past twice the window it flushes the user
+	 * itself, which also covers a stalled scheduler.
+	 */
+	private TaskResponse await(UUID userId, Pending entry) {
+		try {
+			try {
+				return entry.written.get(config.getWindow().toNanos() * 2, TimeUnit.NANOSECONDS);
+			} catch (TimeoutException ex) {
+				flush(userId);
+				return entry.written.get();
+			}
+		} catch (ExecutionException ex) {
+			throw ex.getCause() instanceof RuntimeException cause ? cause : new IllegalStateException(ex.getCause());
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IllegalStateException(ex);
+		}
+	}
+
+	/**
+	 * Writes every drained task's last status, even one equal to the row read
+	 * when it was buffered: that read may come from a lagging replica or
+	 * predate another flush, so it cannot tell which writes are no-ops.
+	 */
+	private void write(UUID userId, Map<Long, Pending> drained) {
+		Map<Long, TaskStatus> statuses = new LinkedHashMap<>();
+		drained.forEach((taskId, entry) -> statuses.put(taskId, entry.status));
+
+		Map<Long, TaskResponse> written;
+		try {
+			written = service.applyStatuses(userId, statuses);
+		} catch (RuntimeException ex) {
+			log.warn("Coalesced status write for user {} failed, writing its {} tasks one by one", userId,
+					statuses.size(), ex);
+			statuses.keySet().forEach(taskId -> retry(userId, taskId, drained.get(taskId)));
+			return;
+		}
+		statuses.keySet().forEach(taskId -> {
+			Pending entry = drained.get(taskId);
+			coalesced.record(entry.submits);
+			TaskResponse response = written.get(taskId);
+			if (response != null) {
+				entry.written.complete(response);
+			} else {
+				entry.written.completeExceptionally(new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
+			}
+		});
+	}
+
+	private void retry(UUID userId, long taskId, Pending entry) {
+		try {
+			entry.written.complete(service.updateStatus(userId, taskId, entry.status, null));
+		} catch (RuntimeException ex) {
+			log.warn("Dropped buffered status {} of task {}", entry.status, taskId, ex);
+			entry.written.completeExceptionally(ex);
+		}
+	}
+
+	private TaskResponse updateSynchronously(UUID userId, long taskId, TaskStatus status, Long expectedVersion,
+			String reason) {
+		registry.counter("tasks.status.coalescing.bypassed", "reason", reason).increment();
+		flush(userId);
+		return service.updateStatus(userId, taskId, status, expectedVersion);
+	}
+
+	/** A task's buffered status. Guarded by the bin lock of its user's entry in {@code buffers}. */
+	private static final class Pending {
+
+		private final TaskResponse current;
+		private final CompletableFuture<TaskResponse> written = new CompletableFuture<>();
+		private TaskStatus status;
+		private int submits;
+
+		Pending(TaskResponse current) {
+			this.current = current;
+		}
+
+		/** Returns the row as the flush is expected to leave it, one version ahead. */
+		TaskResponse submit(TaskStatus status) {
+			this.status = status;
+			this.submits++;
+			return new TaskResponse(current.id(), current.title(), current.description(), status, current.createdAt(),
+					Instant.now(), current.order(), current.version() + 1);
+		}
+	}
+}
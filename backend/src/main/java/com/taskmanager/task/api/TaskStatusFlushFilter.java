@@ -0,0 +1,56 @@
+package com.taskmanager.task.api;
+
+import java.io.IOException;
+import java.util.UUID;
+
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Writes a user's buffered status changes before any other request of theirs
+ * reaches the controller, so every read and every other write sees them. Only
+ * the status changes the coalescer buffers pass straight through.
+ */
+public class TaskStatusFlushFilter extends OncePerRequestFilter {
+
+	static final String USER_HEADER = "X-USER-ID";
+
+	private final TaskStatusCoalescer coalescer;
+
+	public TaskStatusFlushFilter(TaskStatusCoalescer coalescer) {
+		this.coalescer = coalescer;
+	}
+
+	@Override
+	protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain chain)
+			throws ServletException, IOException {
+		UUID userId = parse(request.getHeader(USER_HEADER));
+		if (userId != null && !isBufferedStatusChange(request)) {
+			coalescer.flush(userId);
+		}
+		chain.doFilter(request, response);
+	}
+
+	private static boolean isBufferedStatusChange(HttpServletRequest request) {
+		return HttpMethod.PATCH.matches(request.getMethod()) && request.getRequestURI().endsWith("/status")
+				&& request.getHeader(HttpHeaders.IF_MATCH) == null;
+	}
+
+	private static UUID parse(String header) {
+		if (header == null) {
+			return null;
+		}
+		try {
+			return UUID.fromString(header);
+		} catch (IllegalArgumentException ex) {
+			// the controller rejects it; nothing to flush
+			return null;
+		}
+	}
+}
@@ -0,0 +1,116 @@
+package com.taskmanager.task.application;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.ObjectProvider;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.task.dto.TaskResponse;
+
+/**
+ * Boards cached per user. Loads and evictions of one user's board take the
+ * same striped lock, so an eviction waits for a load that started before the
+ * write committed instead of letting it put the old board back, and
+ * concurrent misses run the query once. The lock is a {@link ReentrantLock}
+ * outside the cache: a loader run inside the cache's own compute would hold a
+ * monitor across the query and pin a virtual thread's carrier.
+ * <p>
+ * A loaded board stays cached until the TTL, so loads run read-write, on the
+ * primary: a lagging replica would cache a board missing the user's last
+ * writes.
+ */
+@Component
+public class TaskBoardCache {
+
+	private static final int STRIPES = 64;
+
+	private final ObjectProvider<CacheManager> cacheManager;
+	private final TransactionTemplate transactions;
+	private final ReentrantLock[] locks = new ReentrantLock[STRIPES];
+
+	public TaskBoardCache(ObjectProvider<CacheManager> cacheManager, PlatformTransactionManager transactionManager) {
+		this.cacheManager = cacheManager;
+		this.transactions = new TransactionTemplate(transactionManager);
+		for (int i = 0; i < STRIPES; i++) {
+			locks[i] = new ReentrantLock();
+		}
+	}
+
+	public List<TaskResponse> get(UUID userId, Supplier<List<TaskResponse>> loader) {
+		var boards = boards();
+		if (boards == null) {
+			return transactions.execute(status -> loader.get());
+		}
+		List<TaskResponse> board = cached(boards, userId);
+		if (board != null) {
+			return board;
+		}
+		ReentrantLock lock = lock(userId);
+		lock.lock();
+		try {
+			board = cached(boards, userId);
+			if (board == null) {
+				board = transactions.execute(status -> loader.get());
+				boards.put(userId, board);
+			}
+			return board;
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void evict(UUID userId) {
+		var boards = boards();
+		if (boards == null) {
+			return;
+		}
+		ReentrantLock lock = lock(userId);
+		lock.lock();
+		try {
+			boards.evict(userId);
+		} finally {
+			lock.unlock();
+		}
+	}
+
+	public void clear() {
+		var boards = boards();
+		if (boards == null) {
+			return;
+		}
+		// stripes are taken in index order, so two clears cannot deadlock
+		for (ReentrantLock lock : locks) {
+			lock.lock();
+		}
+		try {
+			boards.clear();
+		} finally {
+			for (int i = STRIPES - 1; i >= 0; i--) {
+				locks[i].unlock();
+			}
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private static List<TaskResponse> cached(Cache boards, UUID userId) {
+		Cache.ValueWrapper cached = boards.get(userId);
+		return cached == null ? null : (List<TaskResponse>) cached.get();
+	}
+
+	private Cache boards() {
+		CacheManager manager = cacheManager.getIfAvailable();
+		return manager == null ? null : manager.getCache(CacheConfig.TASK_BOARDS);
+	}
+
+	private ReentrantLock lock(UUID userId) {
+		return locks[Math.floorMod(userId.hashCode(), STRIPES)];
+	}
+}
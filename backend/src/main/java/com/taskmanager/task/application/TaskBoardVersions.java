@@ -0,0 +1,55 @@
+package com.taskmanager.task.application;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+/**
+ * Per-user board version, bumped after every committed task write. Versions
+ * come from one global sequence, so a user whose entry was evicted gets a
+ * version that never matches anything rendered earlier.
+ * <p>
+ * The cached board is evicted before the version moves: a reader that sees
+ * the new version must not find the old board still cached and render it
+ * under that version.
+ */
+@Component
+public class TaskBoardVersions {
+
+	private final TaskBoardCache boards;
+	private final AtomicLong sequence = new AtomicLong();
+	private final Cache<UUID, Long> versions = Caffeine.newBuilder()
+			.maximumSize(100_000)
+			.expireAfterAccess(Duration.ofHours(1))
+			.build();
+
+	public TaskBoardVersions(TaskBoardCache boards) {
+		this.boards = boards;
+	}
+
+	public long current(UUID userId) {
+		return versions.get(userId, id -> sequence.incrementAndGet());
+	}
+
+	/** Moves the user's board to a new version, so nothing rendered before is served again. */
+	public void invalidate(UUID userId) {
+		boards.evict(userId);
+		versions.put(userId, sequence.incrementAndGet());
+	}
+
+	public void invalidateAll() {
+		boards.clear();
+		versions.invalidateAll();
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	void onTaskChanged(TaskChangedEvent event) {
+		invalidate(event.userId());
+	}
+}
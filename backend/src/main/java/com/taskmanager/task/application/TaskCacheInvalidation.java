@@ -0,0 +1,13 @@
+package com.taskmanager.task.application;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * One cache coherence message: the tasks whose writes committed on the
+ * {@code origin} node, by user. Sent as JSON in a PostgreSQL {@code NOTIFY}
+ * payload.
+ */
+public record TaskCacheInvalidation(UUID origin, Map<UUID, Set<Long>> tasks) {
+}
@@ -0,0 +1,169 @@
+package com.taskmanager.task.application;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.time.Duration;
+import java.util.Properties;
+import java.util.UUID;
+
+import org.postgresql.PGConnection;
+import org.postgresql.PGNotification;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.SmartLifecycle;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Evicts what other nodes changed from this node's caches. Listens on its own
+ * connection, outside the pool, so a busy pool never delays invalidations.
+ * Notifications sent while it was not listening are lost, so every time it
+ * (re)connects it drops all local task caches before serving from them again.
+ * <p>
+ * Eviction cannot undo a load already in flight here. Boards are safe: their
+ * loads and evictions share a per-user lock, so the eviction waits for the load and
+ * removes what it put. A Task entity read from the database before the remote
+ * commit but put into the entity cache after the eviction stays stale until
+ * the entity cache TTL; nothing in the notification tells it apart from a
+ * fresh row.
+ */
+@Slf4j
+public class TaskCacheListener implements SmartLifecycle {
+
+	/** Shows up in {@code pg_stat_activity}. */
+	public static final String APPLICATION_NAME = "task-cache-listener";
+
+	private static final int POLL_MILLIS = 500;
+	private static final long KEEPALIVE_NANOS = Duration.ofSeconds(10).toNanos();
+
+	private final DataSourceProperties dataSource;
+	private final TaskLocalCaches caches;
+	private final ObjectMapper objectMapper;
+	private final UUID origin;
+	private final Duration reconnectDelay;
+	private final Counter received;
+	private final Counter resyncs;
+
+	private volatile boolean running;
+	private volatile Thread thread;
+
+	public TaskCacheListener(DataSourceProperties dataSource, TaskLocalCaches caches, ObjectMapper objectMapper,
+			UUID origin, TaskProperties properties, MeterRegistry registry) {
+		this.dataSource = dataSource;
+		this.caches = caches;
+		this.objectMapper = objectMapper;
+		this.origin = origin;
+		this.reconnectDelay = properties.getCoherence().getReconnectDelay();
+		this.received = Counter.builder("tasks.cache.coherence.messages")
+				.description("Cache coherence messages exchanged with other nodes")
+				.tag("direction", "received")
+				.register(registry);
+		this.resyncs = Counter.builder("tasks.cache.coherence.resyncs")
+				.description("Local task caches dropped because the listener (re)connected")
+				.register(registry);
+	}
+
+	@Override
+	public synchronized void start() {
+		running = true;
+		thread = new Thread(this::run, APPLICATION_NAME);
+		thread.setDaemon(true);
+		thread.start();
+	}
+
+	@Override
+	public synchronized void stop() {
+		running = false;
+		try {
+			thread.join(POLL_MILLIS * 4L);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		thread = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return running;
+	}
+
+	private void run() {
+		while (running) {
+			try (Connection connection = connect()) {
+				listen(connection);
+			} catch (SQLException | RuntimeException ex) {
+				if (running) {
+					log.warn("Task cache listener lost its connection, reconnecting in {}", reconnectDelay, ex);
+				}
+			}
+			if (running) {
+				try {
+					Thread.sleep(reconnectDelay.toMillis());
+				} catch (InterruptedException ex) {
+					Thread.currentThread().interrupt();
+					return;
+				}
+			}
+		}
+	}
+
+	private Connection connect() throws SQLException {
+		Properties info = new Properties();
+		if (dataSource.determineUsername() != null) {
+			info.setProperty("user", dataSource.determineUsername());
+		}
+		if (dataSource.determinePassword() != null) {
+			info.setProperty("password", dataSource.determinePassword());
+		}
+		info.setProperty("ApplicationName", APPLICATION_NAME);
+		return DriverManager.getConnection(dataSource.determineUrl(), info);
+	}
+
+	private void listen(Connection connection) throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("LISTEN " + TaskCacheNotifier.CHANNEL);
+		}
+		// from here on every change arrives as a notification; anything before may have been missed
+		caches.evictAll();
+		resyncs.increment();
+
+		PGConnection notifications = connection.unwrap(PGConnection.class);
+		long keepalive = System.nanoTime() + KEEPALIVE_NANOS;
+		while (running) {
+			PGNotification[] batch = notifications.getNotifications(POLL_MILLIS);
+			if (batch != null) {
+				for (PGNotification notification : batch) {
+					apply(notification.getParameter());
+				}
+			}
+			// a silently dropped connection would otherwise just stay quiet
+			if (System.nanoTime() - keepalive > 0) {
+				if (!connection.isValid(5)) {
+					throw new SQLException("Listener connection is no longer valid");
+				}
+				keepalive = System.nanoTime() + KEEPALIVE_NANOS;
+			}
+		}
+	}
+
+	private void apply(String payload) {
+		TaskCacheInvalidation invalidation;
+		try {
+			invalidation = objectMapper.readValue(payload, TaskCacheInvalidation.class);
+		} catch (JsonProcessingException ex) {
+			log.warn("Ignoring malformed cache invalidation: {}", payload, ex);
+			return;
+		}
+		if (origin.equals(invalidation.origin())) {
+			return;
+		}
+		received.increment();
+		invalidation.tasks().forEach(caches::evict);
+	}
+}
@@ -0,0 +1,118 @@
+package com.taskmanager.task.application;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Tells the other nodes which tasks changed. Committed changes are collected
+ * per user, so repeated writes to a task within one flush interval go out
+ * once, and each flush sends them in as few {@code NOTIFY} messages as the
+ * payload limit allows. A node that dies between a commit and the next flush
+ * leaves the others stale until their cache TTLs run out.
+ */
+@Slf4j
+public class TaskCacheNotifier {
+
+	public static final String CHANNEL = "task_cache";
+
+	/** Keeps each payload well below PostgreSQL's 8000 byte limit. */
+	static final int MAX_TASKS_PER_MESSAGE = 100;
+
+	private static final String NOTIFY = "select pg_notify(?, ?)";
+
+	private final UUID origin = UUID.randomUUID();
+	private final ConcurrentHashMap<UUID, Set<Long>> pending = new ConcurrentHashMap<>();
+	private final JdbcTemplate jdbcTemplate;
+	private final ObjectMapper objectMapper;
+	private final Counter sent;
+
+	public TaskCacheNotifier(JdbcTemplate jdbcTemplate, ObjectMapper objectMapper, MeterRegistry registry) {
+		this.jdbcTemplate = jdbcTemplate;
+		this.objectMapper = objectMapper;
+		this.sent = Counter.builder("tasks.cache.coherence.messages")
+				.description("Cache coherence messages exchanged with other nodes")
+				.tag("direction", "sent")
+				.register(registry);
+	}
+
+	/** Identifies this node in its messages, so its own listener can skip them. */
+	public UUID origin() {
+		return origin;
+	}
+
+	@TransactionalEventListener(fallbackExecution = true)
+	void onTaskChanged(TaskChangedEvent event) {
+		add(event.userId(), Set.of(event.taskId()));
+	}
+
+	@Scheduled(fixedDelayString = "${app.tasks.coherence.flush-interval:20ms}")
+	@PreDestroy
+	public void flush() {
+		if (pending.isEmpty()) {
+			return;
+		}
+		List<Map<UUID, Set<Long>>> messages = new ArrayList<>();
+		Map<UUID, Set<Long>> message = new LinkedHashMap<>();
+		int size = 0;
+		for (UUID userId : pending.keySet()) {
+			Set<Long> taskIds = pending.remove(userId);
+			if (taskIds == null) {
+				continue;
+			}
+			for (Long taskId : taskIds) {
+				if (size == MAX_TASKS_PER_MESSAGE) {
+					messages.add(message);
+					message = new LinkedHashMap<>();
+					size = 0;
+				}
+				message.computeIfAbsent(userId, id -> new HashSet<>()).add(taskId);
+				size++;
+			}
+		}
+		if (!message.isEmpty()) {
+			messages.add(message);
+		}
+		messages.forEach(this::send);
+	}
+
+	private void send(Map<UUID, Set<Long>> tasks) {
+		try {
+			String payload = objectMapper.writeValueAsString(new TaskCacheInvalidation(origin, tasks));
+			jdbcTemplate.query(NOTIFY, rs -> null, CHANNEL, payload);
+			sent.increment();
+		} catch (JsonProcessingException | DataAccessException ex) {
+			log.warn("Could not send cache invalidation for {} users, retrying on next flush", tasks.size(), ex);
+			tasks.forEach(this::add);
+		}
+	}
+
+	// sets are only touched inside compute and after remove, never concurrently
+	private void add(UUID userId, Set<Long> taskIds) {
+		pending.compute(userId, (id, pendingIds) -> {
+			if (pendingIds == null) {
+				pendingIds = new HashSet<>();
+			}
+			pendingIds.addAll(taskIds);
+			return pendingIds;
+		});
+	}
+}
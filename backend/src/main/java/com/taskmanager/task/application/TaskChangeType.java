@@ -0,0 +1,5 @@
+package com.taskmanager.task.application;
+
+public enum TaskChangeType {
+	CREATED, UPDATED, DELETED
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.task.application;
+
+import java.util.UUID;
+
+import com.taskmanager.task.dto.TaskResponse;
+
+/**
+ * Published by {@link TaskService} for every task it writes. {@code task} is
+ * {@code null} for deletions.
+ */
+public record TaskChangedEvent(UUID userId, TaskChangeType type, long taskId, TaskResponse task) {
+}
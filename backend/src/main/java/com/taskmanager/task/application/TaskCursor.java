@@ -0,0 +1,38 @@
+package com.taskmanager.task.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.common.response.ApiMessage;
+import com.taskmanager.task.domain.Task;
+
+/**
+ * Opaque keyset position on ({@code order}, {@code id}). Tasks without an
+ * order sort last, so a {@code null} order is a valid position.
+ */
+public record TaskCursor(Long order, long id) {
+
+	private static final String NULL_ORDER = "~";
+
+	public static TaskCursor of(Task task) {
+		return new TaskCursor(task.getOrder(), task.getId());
+	}
+
+	public String encode() {
+		String raw = (order == null ? NULL_ORDER : order.toString()) + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	public static TaskCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+			int separator = raw.indexOf(':');
+			String order = raw.substring(0, separator);
+			long id = Long.parseLong(raw.substring(separator + 1));
+			return new TaskCursor(NULL_ORDER.equals(order) ? null : Long.valueOf(order), id);
+		} catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+			throw new BadRequestException(ApiMessage.INVALID_CURSOR);
+		}
+	}
+}
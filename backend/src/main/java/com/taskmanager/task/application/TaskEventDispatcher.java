@@ -0,0 +1,103 @@
+package com.taskmanager.task.application;
+
+import java.util.List;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanager.task.domain.TaskEvent;
+import com.taskmanager.task.domain.TaskEventRepository;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Drains the task outbox off the request path. Each worker claims a batch with
+ * {@code SKIP LOCKED}, hands it to every {@link TaskEventSink} and deletes it in
+ * one transaction, and keeps going while batches come back full. Workers on
+ * all nodes share the table without blocking each other, so batches are not
+ * ordered relative to each other. Without any sink the dispatcher does not
+ * run and events stay in the outbox until one is deployed.
+ */
+@Slf4j
+@RequiredArgsConstructor
+@Component
+@ConditionalOnProperty(prefix = "app.tasks.outbox", name = "enabled", matchIfMissing = true)
+public class TaskEventDispatcher implements SmartLifecycle {
+
+	private final TaskEventRepository repository;
+	private final TransactionTemplate transactions;
+	private final TaskProperties properties;
+	private final List<TaskEventSink> sinks;
+
+	private volatile ScheduledExecutorService workers;
+
+	/** Dispatches one batch and returns its size. */
+	public int dispatchBatch() {
+		if (sinks.isEmpty()) {
+			return 0;
+		}
+		Integer dispatched = transactions.execute(status -> {
+			List<TaskEvent> batch = repository.lockNextBatch(PageRequest.ofSize(properties.getOutbox().getBatchSize()));
+			if (batch.isEmpty()) {
+				return 0;
+			}
+			sinks.forEach(sink -> sink.publish(batch));
+			repository.deleteAllInBatch(batch);
+			return batch.size();
+		});
+		return dispatched == null ? 0 : dispatched;
+	}
+
+	private void drain() {
+		try {
+			int dispatched;
+			do {
+				dispatched = dispatchBatch();
+			} while (dispatched == properties.getOutbox().getBatchSize() && isRunning());
+		} catch (RuntimeException ex) {
+			log.error("Task outbox dispatch failed, retrying on next poll", ex);
+		}
+	}
+
+	@Override
+	public synchronized void start() {
+		if (sinks.isEmpty()) {
+			log.warn("No TaskEventSink bean, task outbox events are kept until one is deployed");
+			return;
+		}
+		var outbox = properties.getOutbox();
+		workers = Executors.newScheduledThreadPool(outbox.getWorkers(), new CustomizableThreadFactory("task-outbox-"));
+		long interval = outbox.getPollInterval().toMillis();
+		for (int i = 0; i < outbox.getWorkers(); i++) {
+			workers.scheduleWithFixedDelay(this::drain, interval * i / outbox.getWorkers(), interval,
+					TimeUnit.MILLISECONDS);
+		}
+	}
+
+	@Override
+	public synchronized void stop() {
+		if (workers == null) {
+			return;
+		}
+		workers.shutdown();
+		try {
+			workers.awaitTermination(10, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+		workers = null;
+	}
+
+	@Override
+	public boolean isRunning() {
+		return workers != null && !workers.isShutdown();
+	}
+}
@@ -0,0 +1,20 @@
+package com.taskmanager.task.application;
+
+import java.util.List;
+
+import com.taskmanager.task.domain.TaskEvent;
+
+/**
+ * Downstream consumer of the task outbox (search index, analytics, webhooks).
+ * Throwing rolls the batch back so it is delivered again, so implementations
+ * must tolerate repeats.
+ * <p>
+ * There is no order across batches, and event ids follow sequence
+ * allocation, not commit order, so a task's events may arrive in either order,
+ * even within one batch. Apply a task's changes by the {@code version} in
+ * their payload and ignore older ones; a deletion has no payload and is final.
+ */
+public interface TaskEventSink {
+
+	void publish(List<TaskEvent> events);
+}
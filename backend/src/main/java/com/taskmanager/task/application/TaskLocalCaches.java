@@ -0,0 +1,37 @@
+package com.taskmanager.task.application;
+
+import java.util.Collection;
+import java.util.UUID;
+
+import com.taskmanager.task.domain.Task;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * What this node caches about tasks: boards, board versions (and with them
+ * the serialized board responses) and Task entities. Local writes evict
+ * through their own paths; this is for writes committed on other nodes.
+ */
+public class TaskLocalCaches {
+
+	private final TaskBoardVersions boardVersions;
+	private final EntityManagerFactory entityManagerFactory;
+
+	public TaskLocalCaches(TaskBoardVersions boardVersions, EntityManagerFactory entityManagerFactory) {
+		this.boardVersions = boardVersions;
+		this.entityManagerFactory = entityManagerFactory;
+	}
+
+	public void evict(UUID userId, Collection<Long> taskIds) {
+		boardVersions.invalidate(userId);
+		var entityCache = entityManagerFactory.getCache();
+		for (Long taskId : taskIds) {
+			entityCache.evict(Task.class, taskId);
+		}
+	}
+
+	public void evictAll() {
+		boardVersions.invalidateAll();
+		entityManagerFactory.getCache().evict(Task.class);
+	}
+}
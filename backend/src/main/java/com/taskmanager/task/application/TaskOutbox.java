@@ -0,0 +1,34 @@
+package com.taskmanager.task.application;
+
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.task.domain.TaskEvent;
+import com.taskmanager.task.domain.TaskEventRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Records every {@link TaskChangedEvent} as an outbox row. The listener runs
+ * synchronously inside the writing transaction, so the row commits or rolls
+ * back with the change, and the insert joins the flush's JDBC batch.
+ */
+@RequiredArgsConstructor
+@Component
+public class TaskOutbox {
+
+	private final TaskEventRepository repository;
+	private final ObjectMapper objectMapper;
+
+	@EventListener
+	void record(TaskChangedEvent event) throws JsonProcessingException {
+		repository.save(TaskEvent.builder()
+				.userId(event.userId())
+				.taskId(event.taskId())
+				.type(event.type().name())
+				.payload(event.task() == null ? null : objectMapper.writeValueAsString(event.task()))
+				.build());
+	}
+}
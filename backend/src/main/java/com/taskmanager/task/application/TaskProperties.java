@@ -0,0 +1,183 @@
+package com.taskmanager.task.application;
+
+import java.time.Duration;
+
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import lombok.Getter;
+import lombok.Setter;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "app.tasks")
+public class TaskProperties {
+
+	/**
+	 * How status changes are written: load the task and save it, or a single
+	 * {@code UPDATE ... RETURNING} round trip.
+	 */
+	private StatusUpdateMode statusUpdateMode = StatusUpdateMode.LOAD_AND_SAVE;
+
+	private final BoardCache boardCache = new BoardCache();
+
+	private final EntityCache entityCache = new EntityCache();
+
+	private final ResponseCache responseCache = new ResponseCache();
+
+	private final Changes changes = new Changes();
+
+	private final Outbox outbox = new Outbox();
+
+	private final Stats stats = new Stats();
+
+	private final Idempotency idempotency = new Idempotency();
+
+	private final StatusCoalescing statusCoalescing = new StatusCoalescing();
+
+	private final Coherence coherence = new Coherence();
+
+	private final Stream stream = new Stream();
+
+	public enum StatusUpdateMode {
+		LOAD_AND_SAVE, SINGLE_STATEMENT
+	}
+
+	@Getter
+	@Setter
+	public static class BoardCache {
+
+		/** Upper bound on the number of tasks held across all cached boards. */
+		private long maximumTasks = 200_000;
+
+		/** How long a board stays cached after it was loaded. */
+		private Duration ttl = Duration.ofMinutes(10);
+	}
+
+	@Getter
+	@Setter
+	public static class EntityCache {
+
+		/** Upper bound on the number of tasks held in the second-level cache. */
+		private long maximumTasks = 100_000;
+
+		/** How long a task stays cached after it was loaded or written. */
+		private Duration ttl = Duration.ofMinutes(10);
+	}
+
+	@Getter
+	@Setter
+	public static class ResponseCache {
+
+		/** Upper bound on serialized (and gzipped) board bytes kept in memory. */
+		private DataSize maximumSize = DataSize.ofMegabytes(64);
+
+		/** How long a rendered board is kept, even if its version never moves. */
+		private Duration ttl = Duration.ofMinutes(10);
+	}
+
+	@Getter
+	@Setter
+	public static class Changes {
+
+		/** How far each delta sync watermark lags behind, to catch writes that commit late. */
+		private Duration overlap = Duration.ofSeconds(5);
+
+		/** How long deletion tombstones are kept; older watermarks get the full board. */
+		private Duration retention = Duration.ofDays(30);
+	}
+
+	@Getter
+	@Setter
+	public static class Outbox {
+
+		/** Whether this node runs outbox dispatchers; events are recorded either way. */
+		private boolean enabled = true;
+
+		/** Events claimed and dispatched per transaction. */
+		private int batchSize = 100;
+
+		/** Pause between drains once the outbox is empty. */
+		private Duration pollInterval = Duration.ofSeconds(1);
+
+		/** Concurrent dispatcher threads on this node. */
+		private int workers = 1;
+	}
+
+	@Getter
+	@Setter
+	public static class Stats {
+
+		/** Users recounted per transaction by the status count reconciliation. */
+		private int reconcileChunk = 500;
+	}
+
+	@Getter
+	@Setter
+	public static class Idempotency {
+
+		/** How long a completed request's response is replayed for its key. */
+		private Duration ttl = Duration.ofHours(24);
+	}
+
+	@Getter
+	@Setter
+	public static class StatusCoalescing {
+
+		/**
+		 * Buffer {@code PATCH /{id}/status} writes and flush only each task's final
+		 * status; off means every change is its own transaction.
+		 */
+		private boolean enabled = false;
+
+		/** How long status changes are buffered before they are flushed together. */
+		private Duration window = Duration.ofMillis(50);
+
+		/** When a buffered status change is acknowledged. */
+		private Durability durability = Durability.FLUSHED;
+
+		/** Tasks buffered across all users; beyond that changes are written synchronously. */
+		private int maxPending = 10_000;
+	}
+
+	@Getter
+	@Setter
+	public static class Coherence {
+
+		/**
+		 * Tell the other nodes which tasks changed, over PostgreSQL
+		 * {@code NOTIFY}, so their local caches drop them.
+		 */
+		private boolean enabled = false;
+
+		/** How long committed changes are collected before they are sent in one batch. */
+		private Duration flushInterval = Duration.ofMillis(20);
+
+		/** Pause before the listener connects again after losing its connection. */
+		private Duration reconnectDelay = Duration.ofSeconds(1);
+	}
+
+	@Getter
+	@Setter
+	public static class Stream {
+
+		/** Threads writing changes to SSE connections, shared by all of them. */
+		private int threads = 4;
+
+		/** Connections waiting for a thread; beyond that new changes close the connection. */
+		private int queueCapacity = 10_000;
+
+		/** A connection whose write blocks longer than this gets no further changes. */
+		private Duration sendTimeout = Duration.ofSeconds(10);
+
+		/** How long a connection stays open; clients reconnect after that. */
+		private Duration timeout = Duration.ofMinutes(30);
+	}
+
+	public enum Durability {
+		/** Answer once the change is buffered; a crash loses at most one window of changes. */
+		BUFFERED,
+		/** Answer once the flush carrying the change (or a later one for the same task) committed. */
+		FLUSHED
+	}
+}
@@ -0,0 +1,35 @@
+package com.taskmanager.task.application;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.common.response.ApiMessage;
+import com.taskmanager.task.domain.TaskSearchHit;
+
+/**
+ * Opaque keyset position in search results ordered by ({@code rank} desc,
+ * {@code id} desc).
+ */
+public record TaskSearchCursor(float rank, long id) {
+
+	public static TaskSearchCursor of(TaskSearchHit hit) {
+		return new TaskSearchCursor(hit.rank(), hit.task().getId());
+	}
+
+	public String encode() {
+		String raw = Float.floatToIntBits(rank) + ":" + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.US_ASCII));
+	}
+
+	public static TaskSearchCursor decode(String cursor) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.US_ASCII);
+			int separator = raw.indexOf(':');
+			float rank = Float.intBitsToFloat(Integer.parseInt(raw.substring(0, separator)));
+			return new TaskSearchCursor(rank, Long.parseLong(raw.substring(separator + 1)));
+		} catch (IllegalArgumentException | IndexOutOfBoundsException ex) {
+			throw new BadRequestException(ApiMessage.INVALID_CURSOR);
+		}
+	}
+}
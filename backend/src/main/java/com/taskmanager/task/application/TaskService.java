@@ -1,10 +1,23 @@
 package com.taskmanager.task.application;
 
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.taskmanager.common.exception.*;
 import com.taskmanager.common.response.*;
@@ -12,48 +25,209 @@ import com.taskmanager.task.domain.*;
 import com.taskmanager.task.dto.*;
 import com.taskmanager.task.mapper.*;
 
+import io.micrometer.observation.annotation.Observed;
+import jakarta.persistence.EntityManager;
 import lombok.RequiredArgsConstructor;
 
 @RequiredArgsConstructor
 @Service
+@Observed(name = "tasks.service")
 @Transactional(readOnly = true)
 public class TaskService {
 
+	static final int DEFAULT_PAGE_SIZE = 50;
+	static final int MAX_PAGE_SIZE = 200;
+	/** Spacing between neighbouring ranks; about 20 halvings fit before a lane needs rebalancing. */
+	static final long RANK_GAP = 1L << 20;
+	static final int REBALANCE_CHUNK = 500;
+
 	private final TaskRepository repository;
+	private final TaskDeletionRepository deletions;
 	private final TaskMapper mapper;
+	private final EntityManager entityManager;
+	private final TaskProperties properties;
+	private final ApplicationEventPublisher events;
+	private final TaskStatusCounts statusCounts;
+	private final TaskBoardCache boards;
 
+	/**
+	 * Served from {@link TaskBoardCache}, which loads on the primary; boards
+	 * are evicted by {@link TaskBoardVersions} after each write commits. No
+	 * transaction of its own, so a cache hit never borrows a connection.
+	 */
+	@Transactional(propagation = Propagation.SUPPORTS)
 	public List<TaskResponse> getAll(UUID userId) {
-		return repository.findByUserIdOrderByOrder(userId).stream().map(mapper::toResponse).toList();
+		return boards.get(userId, () -> repository.findResponsesByUserId(userId));
+	}
+
+	public List<TaskSummary> getSummaries(UUID userId) {
+		return repository.findSummariesByUserId(userId);
+	}
+
+	public TaskPage getPage(UUID userId, TaskStatus status, Integer limit, String cursor) {
+		int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+		// one extra row tells us whether a next page exists without a count query
+		var pageable = PageRequest.ofSize(size + 1);
+		List<Task> tasks;
+		if (cursor == null || cursor.isBlank()) {
+			tasks = repository.findFirstPage(userId, status, pageable);
+		} else {
+			TaskCursor after = TaskCursor.decode(cursor);
+			tasks = after.order() == null
+					? repository.findUnorderedPageAfter(userId, status, after.id(), pageable)
+					: pageAfter(userId, status, after, size + 1);
+		}
+
+		boolean hasNext = tasks.size() > size;
+		List<Task> page = hasNext ? tasks.subList(0, size) : tasks;
+		String nextCursor = hasNext ? TaskCursor.of(page.get(size - 1)).encode() : null;
+		return new TaskPage(page.stream().map(mapper::toResponse).toList(), nextCursor, hasNext);
+	}
+
+	/** Ordered tasks after the cursor, topped up with the unordered ones that sort after all of them. */
+	private List<Task> pageAfter(UUID userId, TaskStatus status, TaskCursor after, int limit) {
+		List<Task> tasks = repository.findPageAfter(userId, status, after.order(), after.id(),
+				PageRequest.ofSize(limit));
+		if (tasks.size() == limit) {
+			return tasks;
+		}
+		List<Task> page = new ArrayList<>(tasks);
+		// ids start at 1, so 0 is before every unordered task
+		page.addAll(repository.findUnorderedPageAfter(userId, status, 0L, PageRequest.ofSize(limit - tasks.size())));
+		return page;
+	}
+
+	/**
+	 * One page of full-text matches, best first. The cursor carries the last
+	 * hit's rank and id, so deeper pages cost the same as the first.
+	 */
+	public TaskPage search(UUID userId, String query, Integer limit, String cursor) {
+		if (query == null || query.isBlank()) {
+			throw new BadRequestException(ApiMessage.INVALID_SEARCH_QUERY);
+		}
+		int size = limit == null ? DEFAULT_PAGE_SIZE : Math.min(Math.max(limit, 1), MAX_PAGE_SIZE);
+		TaskSearchCursor after = cursor == null || cursor.isBlank() ? null : TaskSearchCursor.decode(cursor);
+		List<TaskSearchHit> hits = repository.search(userId, query, after == null ? null : after.rank(),
+				after == null ? null : after.id(), size + 1);
+
+		boolean hasNext = hits.size() > size;
+		List<TaskSearchHit> page = hasNext ? hits.subList(0, size) : hits;
+		String nextCursor = hasNext ? TaskSearchCursor.of(page.get(size - 1)).encode() : null;
+		return new TaskPage(page.stream().map(hit -> mapper.toResponse(hit.task())).toList(), nextCursor, hasNext);
+	}
+
+	/**
+	 * Streams every task of the user to {@code sink} through a server-side cursor.
+	 * Each row is detached once written so the persistence context stays empty.
+	 */
+	public void export(UUID userId, Consumer<TaskResponse> sink) {
+		try (Stream<Task> tasks = repository.streamByUserIdOrderByOrder(userId)) {
+			tasks.forEach(task -> {
+				sink.accept(mapper.toResponse(task));
+				entityManager.detach(task);
+			});
+		}
+	}
+
+	/**
+	 * Tasks written and deleted at or after the {@code since} watermark. The
+	 * returned watermark lags the read by the configured overlap so writes that
+	 * commit late are sent again; clients apply changes by id, so repeats are
+	 * harmless. Without a watermark, or one older than the tombstone retention,
+	 * the full board is returned as a reset.
+	 */
+	public TaskChanges getChanges(UUID userId, String since) {
+		var config = properties.getChanges();
+		Instant now = Instant.now();
+		String next = new TaskWatermark(now.minus(config.getOverlap())).encode();
+		TaskWatermark from = since == null || since.isBlank() ? null : TaskWatermark.decode(since);
+		if (from == null || from.at().isBefore(now.minus(config.getRetention()))) {
+			var board = repository.findByUserIdOrderByOrder(userId).stream().map(mapper::toResponse).toList();
+			return new TaskChanges(board, List.of(), next, true);
+		}
+
+		var changed = repository.findChangedSince(userId, from.at()).stream().map(mapper::toResponse).toList();
+		return new TaskChanges(changed, deletions.findTaskIdsDeletedSince(userId, from.at()), next, false);
+	}
+
+	public TaskStats getStats(UUID userId) {
+		return statusCounts.get(userId);
 	}
 
 	public TaskResponse getById(UUID userId, Long taskId) {
 		Task task = repository.findByIdAndUserId(taskId, userId)
-				.orElseThrow(() -> new ResourceNotFoundException(String.format("%s %d",ApiMessage.TASK_NOT_FOUND, taskId)));
+				.orElseThrow(() -> new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
 		return mapper.toResponse(task);
 
 	}
 
+	/**
+	 * @param expectedVersion version required by the client's If-Match, or
+	 *                        {@code null} to update unconditionally
+	 */
 	@Transactional
-	public TaskResponse updateStatus(UUID userId, long taskId, TaskStatus status) {
+	public TaskResponse updateStatus(UUID userId, long taskId, TaskStatus status, Long expectedVersion) {
+		if (properties.getStatusUpdateMode() == TaskProperties.StatusUpdateMode.SINGLE_STATEMENT) {
+			var response = repository.updateStatusReturning(taskId, userId, status.name(), Instant.now(), expectedVersion)
+					.map(mapper::toResponse)
+					.orElseThrow(() -> expectedVersion != null && repository.existsByIdAndUserId(taskId, userId)
+							? new PreconditionFailedException(ApiMessage.TASK_VERSION_MISMATCH)
+							: new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
+			evictAfterCompletion(taskId);
+			return published(userId, TaskChangeType.UPDATED, response);
+		}
+
 		Task task = repository.findByIdAndUserId(taskId, userId)
-				.orElseThrow(() -> new ResourceNotFoundException(String.format("%s %d",ApiMessage.TASK_NOT_FOUND, taskId)));
+				.orElseThrow(() -> new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
+		checkVersion(task, expectedVersion);
 
+		statusCounts.transition(userId, task.getStatus(), status);
 		task.setStatus(status);
 		var result = repository.save(task);
-		return mapper.toResponse(result);
+		// flush so the response carries the incremented version and updatedAt
+		repository.flush();
+		return published(userId, TaskChangeType.UPDATED, mapper.toResponse(result));
 	}
 
+	/**
+	 * Writes the final status of each task, as coalesced by the caller, in one
+	 * flush so the updates go out as a JDBC batch. Every listed task is written
+	 * once, even when it ends where it started. Tasks deleted meanwhile are
+	 * missing from the result.
+	 */
 	@Transactional
-	public TaskResponse update(UUID userId, Long taskId, TaskUpsertRequest request) {
+	public Map<Long, TaskResponse> applyStatuses(UUID userId, Map<Long, TaskStatus> statuses) {
+		List<Task> tasks = repository.findByUserIdAndIdIn(userId, statuses.keySet());
+		Map<TaskStatus, Long> statusDeltas = new EnumMap<>(TaskStatus.class);
+		Instant now = Instant.now();
+		for (Task task : tasks) {
+			TaskStatus status = statuses.get(task.getId());
+			TaskStatusCounts.add(statusDeltas, task.getStatus(), status);
+			task.setStatus(status);
+			// dirties the row when the status came back to where it was
+			task.setUpdatedAt(now);
+		}
+		statusCounts.adjust(userId, statusDeltas);
+		repository.flush();
+
+		Map<Long, TaskResponse> written = new HashMap<>();
+		for (Task task : tasks) {
+			written.put(task.getId(), published(userId, TaskChangeType.UPDATED, mapper.toResponse(task)));
+		}
+		return written;
+	}
+
+	@Transactional
+	public TaskResponse update(UUID userId, Long taskId, TaskUpsertRequest request, Long expectedVersion) {
 		Task task = repository.findByIdAndUserId(taskId, userId)
-				.orElseThrow(() -> new ResourceNotFoundException(String.format("%s %d",ApiMessage.TASK_NOT_FOUND, taskId)));
+				.orElseThrow(() -> new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
+		checkVersion(task, expectedVersion);
 
-		task.setTitle(request.title());
-		task.setDescription(request.description());
-		task.setStatus(request.status());
-		task.setOrder(request.order());
+		statusCounts.transition(userId, task.getStatus(), request.status());
+		apply(task, request);
 		repository.save(task);
-		return mapper.toResponse(task);
+		repository.flush();
+		return published(userId, TaskChangeType.UPDATED, mapper.toResponse(task));
 	}
 
 	@Transactional
@@ -61,14 +235,250 @@ public class TaskService {
 		Task task = mapper.toEntity(request);
 		task.setUserId(userId);
 		task = repository.save(task);
-		return mapper.toResponse(task);
+		statusCounts.transition(userId, null, task.getStatus());
+		return published(userId, TaskChangeType.CREATED, mapper.toResponse(task));
+	}
+
+	/**
+	 * Moves a task between two neighbours by giving it the midpoint of their
+	 * ranks, a single-row write. Only when the neighbours' ranks are adjacent
+	 * is the lane renumbered, in chunks, before retrying.
+	 */
+	@Transactional
+	public TaskResponse move(UUID userId, Long taskId, TaskMoveRequest request) {
+		if (taskId.equals(request.afterId()) || taskId.equals(request.beforeId())) {
+			throw new BadRequestException(ApiMessage.INVALID_MOVE);
+		}
+		Task task = findTask(userId, taskId);
+		Task after = request.afterId() == null ? null : findTask(userId, request.afterId());
+		Task before = request.beforeId() == null ? null : findTask(userId, request.beforeId());
+		TaskStatus lane = request.status() != null ? request.status()
+				: after != null ? after.getStatus() : before != null ? before.getStatus() : task.getStatus();
+		if ((after != null && after.getStatus() != lane) || (before != null && before.getStatus() != lane)) {
+			throw new BadRequestException(ApiMessage.INVALID_MOVE);
+		}
+		// inverted neighbours have no rank between them; reject before respacing the lane for nothing
+		if (after != null && before != null && !sortsBefore(after, before)) {
+			throw new BadRequestException(ApiMessage.INVALID_MOVE);
+		}
+
+		Long rank = rankBetween(after, before);
+		if (rank == null) {
+			rebalance(userId, lane);
+			task = findTask(userId, taskId);
+			after = request.afterId() == null ? null : findTask(userId, request.afterId());
+			before = request.beforeId() == null ? null : findTask(userId, request.beforeId());
+			rank = rankBetween(after, before);
+			if (rank == null) {
+				throw new BadRequestException(ApiMessage.INVALID_MOVE);
+			}
+		}
+
+		statusCounts.transition(userId, task.getStatus(), lane);
+		task.setStatus(lane);
+		task.setOrder(rank);
+		repository.save(task);
+		repository.flush();
+		return published(userId, TaskChangeType.UPDATED, mapper.toResponse(task));
+	}
+
+	/**
+	 * Applies all operations in one transaction. Targets of updates and deletes
+	 * are loaded with a single query, and inserts, updates and deletes are flushed
+	 * together so Hibernate can send them as JDBC batches. A missing task or body
+	 * fails only its own item.
+	 */
+	@Transactional
+	public List<TaskBatchResult> batch(UUID userId, List<TaskBatchOperation> operations) {
+		List<Long> ids = operations.stream().filter(op -> op.action() != TaskBatchAction.CREATE && op.id() != null)
+				.map(TaskBatchOperation::id).distinct().toList();
+		Map<Long, Task> existing = new HashMap<>();
+		if (!ids.isEmpty()) {
+			repository.findByUserIdAndIdIn(userId, ids).forEach(task -> existing.put(task.getId(), task));
+		}
+
+		List<Task> targets = new ArrayList<>(operations.size());
+		List<Task> created = new ArrayList<>();
+		List<Task> deleted = new ArrayList<>();
+		Map<TaskStatus, Long> statusDeltas = new EnumMap<>(TaskStatus.class);
+		for (TaskBatchOperation op : operations) {
+			Task task = null;
+			switch (op.action()) {
+			case CREATE -> {
+				if (op.task() != null) {
+					task = mapper.toEntity(op.task());
+					task.setUserId(userId);
+					created.add(task);
+					TaskStatusCounts.add(statusDeltas, null, task.getStatus());
+				}
+			}
+			case UPDATE -> {
+				task = op.id() == null ? null : existing.get(op.id());
+				if (task != null && op.task() != null) {
+					TaskStatusCounts.add(statusDeltas, task.getStatus(), op.task().status());
+					apply(task, op.task());
+				} else {
+					task = null;
+				}
+			}
+			case DELETE -> {
+				task = op.id() == null ? null : existing.remove(op.id());
+				if (task != null) {
+					deleted.add(task);
+					TaskStatusCounts.add(statusDeltas, task.getStatus(), null);
+				}
+			}
+			}
+			targets.add(task);
+		}
+
+		repository.saveAll(created);
+		repository.deleteAll(deleted);
+		statusCounts.adjust(userId, statusDeltas);
+		Instant deletedAt = Instant.now();
+		deletions.saveAll(deleted.stream().map(task -> tombstone(userId, task.getId(), deletedAt)).toList());
+		repository.flush();
+
+		List<TaskBatchResult> results = new ArrayList<>(operations.size());
+		for (int i = 0; i < operations.size(); i++) {
+			TaskBatchResult result = toBatchResult(i, operations.get(i), targets.get(i));
+			if (result.type() == MessageType.SUCCESS) {
+				TaskChangeType type = switch (result.action()) {
+				case CREATE -> TaskChangeType.CREATED;
+				case UPDATE -> TaskChangeType.UPDATED;
+				case DELETE -> TaskChangeType.DELETED;
+				};
+				events.publishEvent(new TaskChangedEvent(userId, type, result.id(), result.task()));
+			}
+			results.add(result);
+		}
+		return results;
 	}
 
 	@Transactional
 	public void delete(UUID userId, Long taskId) {
 		Task task = repository.findByIdAndUserId(taskId,userId)
-				.orElseThrow(() -> new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND + " " + taskId));
+				.orElseThrow(() -> new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
 		repository.delete(task);
+		statusCounts.transition(userId, task.getStatus(), null);
+		deletions.save(tombstone(userId, taskId, Instant.now()));
+		events.publishEvent(new TaskChangedEvent(userId, TaskChangeType.DELETED, taskId, null));
+	}
+
+	@Scheduled(cron = "${app.tasks.changes.purge-cron:0 0 3 * * *}")
+	@Transactional
+	public int purgeDeletions() {
+		return deletions.deleteOlderThan(Instant.now().minus(properties.getChanges().getRetention()));
+	}
+
+	private TaskDeletion tombstone(UUID userId, Long taskId, Instant deletedAt) {
+		return TaskDeletion.builder().userId(userId).taskId(taskId).deletedAt(deletedAt).build();
+	}
+
+	private TaskResponse published(UUID userId, TaskChangeType type, TaskResponse task) {
+		events.publishEvent(new TaskChangedEvent(userId, type, task.id(), task));
+		return task;
+	}
+
+	/**
+	 * Native updates bypass the second-level cache, which would keep serving
+	 * the old row. Evicting after completion also drops a stale copy that a
+	 * concurrent read put back while this transaction was open.
+	 */
+	private void evictAfterCompletion(long taskId) {
+		if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+			return;
+		}
+		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+			@Override
+			public void afterCompletion(int status) {
+				entityManager.getEntityManagerFactory().getCache().evict(Task.class, taskId);
+			}
+		});
+	}
+
+	private Task findTask(UUID userId, Long taskId) {
+		return repository.findByIdAndUserId(taskId, userId)
+				.orElseThrow(() -> new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, taskId));
+	}
+
+	/** Midpoint rank between the neighbours, or {@code null} when there is no room. */
+	/** Board order: by rank, then id, with unranked tasks after all ranked ones. */
+	private static boolean sortsBefore(Task first, Task second) {
+		if (first.getOrder() == null || second.getOrder() == null) {
+			return first.getOrder() != null
+					|| (second.getOrder() == null && first.getId() < second.getId());
+		}
+		int byOrder = Long.compare(first.getOrder(), second.getOrder());
+		return byOrder < 0 || (byOrder == 0 && first.getId() < second.getId());
+	}
+
+	private Long rankBetween(Task after, Task before) {
+		Long lower = after == null ? null : after.getOrder();
+		Long upper = before == null ? null : before.getOrder();
+		if ((after != null && lower == null) || (before != null && upper == null)) {
+			return null;
+		}
+		if (lower == null && upper == null) {
+			return RANK_GAP;
+		}
+		if (upper == null) {
+			return lower + RANK_GAP;
+		}
+		if (lower == null) {
+			return upper - RANK_GAP;
+		}
+		return upper - lower > 1 ? lower + (upper - lower) / 2 : null;
+	}
+
+	/**
+	 * Respaces a lane to multiples of {@link #RANK_GAP}, keeping its order. Rows
+	 * are loaded and flushed in chunks so the persistence context stays small and
+	 * the updates go out as JDBC batches.
+	 */
+	private void rebalance(UUID userId, TaskStatus lane) {
+		List<Long> ids = repository.findLaneIds(userId, lane);
+		for (int start = 0; start < ids.size(); start += REBALANCE_CHUNK) {
+			List<Long> chunk = ids.subList(start, Math.min(start + REBALANCE_CHUNK, ids.size()));
+			Map<Long, Task> tasks = new HashMap<>();
+			repository.findByUserIdAndIdIn(userId, chunk).forEach(task -> tasks.put(task.getId(), task));
+			for (int i = 0; i < chunk.size(); i++) {
+				tasks.get(chunk.get(i)).setOrder((start + i + 1) * RANK_GAP);
+			}
+			repository.flush();
+			tasks.values().forEach(task -> published(userId, TaskChangeType.UPDATED, mapper.toResponse(task)));
+			entityManager.clear();
+		}
+	}
+
+	private void checkVersion(Task task, Long expectedVersion) {
+		if (expectedVersion != null && expectedVersion != task.getVersion()) {
+			throw new PreconditionFailedException(ApiMessage.TASK_VERSION_MISMATCH);
+		}
+	}
+
+	private void apply(Task task, TaskUpsertRequest request) {
+		task.setTitle(request.title());
+		task.setDescription(request.description());
+		task.setStatus(request.status());
+		task.setOrder(request.order());
+	}
+
+	private TaskBatchResult toBatchResult(int index, TaskBatchOperation op, Task task) {
+		if (task == null) {
+			String message = op.action() != TaskBatchAction.DELETE && op.task() == null
+					? ApiMessage.INVALID_TASK_DATA
+					: ApiMessage.TASK_NOT_FOUND;
+			return new TaskBatchResult(index, op.action(), op.id(), null, message, MessageType.ERROR);
+		}
+		return switch (op.action()) {
+		case CREATE -> new TaskBatchResult(index, op.action(), task.getId(), mapper.toResponse(task),
+				ApiMessage.TASK_CREATED, MessageType.SUCCESS);
+		case UPDATE -> new TaskBatchResult(index, op.action(), task.getId(), mapper.toResponse(task),
+				ApiMessage.TASK_UPDATED, MessageType.SUCCESS);
+		case DELETE -> new TaskBatchResult(index, op.action(), task.getId(), null, ApiMessage.TASK_DELETED,
+				MessageType.SUCCESS);
+		};
 	}
 
 }
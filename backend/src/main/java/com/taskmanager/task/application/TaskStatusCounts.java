@@ -0,0 +1,151 @@
+package com.taskmanager.task.application;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanager.task.domain.TaskRepository;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.domain.TaskStatusCount;
+import com.taskmanager.task.domain.TaskStatusCountRepository;
+import com.taskmanager.task.dto.TaskStats;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceException;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Per-user task counts by status. Writers adjust them in their own
+ * transaction with one {@code UPDATE} per touched status; a user's rows are
+ * created on first use in a separate transaction, so concurrent first writes
+ * cannot collide, and seeded from the user's committed tasks, which the
+ * caller's own change is then applied on top of. {@link #reconcile()}
+ * recounts from {@code tasks} to repair any drift.
+ */
+@Slf4j
+@Component
+public class TaskStatusCounts {
+
+	private final TaskStatusCountRepository counts;
+	private final TaskRepository tasks;
+	private final EntityManager entityManager;
+	private final TaskProperties properties;
+	private final TransactionTemplate transactions;
+	private final TransactionTemplate newTransactions;
+
+	public TaskStatusCounts(TaskStatusCountRepository counts, TaskRepository tasks, EntityManager entityManager,
+			TaskProperties properties, PlatformTransactionManager transactionManager) {
+		this.counts = counts;
+		this.tasks = tasks;
+		this.entityManager = entityManager;
+		this.properties = properties;
+		this.transactions = new TransactionTemplate(transactionManager);
+		this.newTransactions = new TransactionTemplate(transactionManager);
+		this.newTransactions.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+	}
+
+	public TaskStats get(UUID userId) {
+		Map<TaskStatus, Long> byStatus = new EnumMap<>(TaskStatus.class);
+		for (TaskStatus status : TaskStatus.values()) {
+			byStatus.put(status, 0L);
+		}
+		counts.findByUserId(userId).forEach(count -> byStatus.put(count.getStatus(), count.getTaskCount()));
+		return new TaskStats(byStatus, byStatus.values().stream().mapToLong(Long::longValue).sum());
+	}
+
+	/** Records a task entering {@code to} and leaving {@code from}; either may be {@code null}. */
+	public void transition(UUID userId, TaskStatus from, TaskStatus to) {
+		if (from == to) {
+			return;
+		}
+		Map<TaskStatus, Long> deltas = new EnumMap<>(TaskStatus.class);
+		add(deltas, from, to);
+		adjust(userId, deltas);
+	}
+
+	public static void add(Map<TaskStatus, Long> deltas, TaskStatus from, TaskStatus to) {
+		if (from != null) {
+			deltas.merge(from, -1L, Long::sum);
+		}
+		if (to != null) {
+			deltas.merge(to, 1L, Long::sum);
+		}
+	}
+
+	public void adjust(UUID userId, Map<TaskStatus, Long> deltas) {
+		deltas.forEach((status, delta) -> {
+			if (delta != 0 && counts.increment(userId, status, delta) == 0) {
+				initialize(userId);
+				counts.increment(userId, status, delta);
+			}
+		});
+	}
+
+	private void initialize(UUID userId) {
+		try {
+			newTransactions.executeWithoutResult(tx -> {
+				Map<TaskStatus, Long> committed = new EnumMap<>(TaskStatus.class);
+				tasks.countByStatus(List.of(userId))
+						.forEach(count -> committed.put(count.getStatus(), count.getTaskCount()));
+				for (TaskStatus status : TaskStatus.values()) {
+					entityManager.persist(new TaskStatusCount(userId, status, committed.getOrDefault(status, 0L)));
+				}
+				entityManager.flush();
+			});
+		} catch (DataIntegrityViolationException | PersistenceException ex) {
+			// another transaction created the rows first
+		}
+	}
+
+	/**
+	 * Recounts every user's tasks, a chunk of users per transaction. Counter rows
+	 * are locked before counting, so writes racing a chunk are applied after it.
+	 */
+	@Scheduled(cron = "${app.tasks.stats.reconcile-cron:0 30 3 * * *}")
+	public void reconcile() {
+		var page = PageRequest.ofSize(properties.getStats().getReconcileChunk());
+		List<UUID> users = tasks.findFirstUserIds(page);
+		while (!users.isEmpty()) {
+			List<UUID> chunk = users;
+			try {
+				transactions.executeWithoutResult(tx -> reconcile(chunk));
+			} catch (DataIntegrityViolationException | PersistenceException ex) {
+				log.warn("Skipping status count reconciliation of {} users, retried on next run", chunk.size());
+			}
+			users = chunk.size() < page.getPageSize() ? List.of()
+					: tasks.findUserIdsAfter(chunk.get(chunk.size() - 1), page);
+		}
+	}
+
+	private void reconcile(List<UUID> userIds) {
+		Map<TaskStatusCount.Key, TaskStatusCount> existing = new HashMap<>();
+		counts.lockByUserIdIn(userIds)
+				.forEach(count -> existing.put(new TaskStatusCount.Key(count.getUserId(), count.getStatus()), count));
+		Map<TaskStatusCount.Key, Long> actual = new HashMap<>();
+		tasks.countByStatus(userIds).forEach(
+				count -> actual.put(new TaskStatusCount.Key(count.getUserId(), count.getStatus()), count.getTaskCount()));
+
+		for (UUID userId : userIds) {
+			for (TaskStatus status : TaskStatus.values()) {
+				var key = new TaskStatusCount.Key(userId, status);
+				long taskCount = actual.getOrDefault(key, 0L);
+				TaskStatusCount count = existing.get(key);
+				if (count == null) {
+					entityManager.persist(new TaskStatusCount(userId, status, taskCount));
+				} else if (count.getTaskCount() != taskCount) {
+					count.setTaskCount(taskCount);
+				}
+			}
+		}
+	}
+}
@@ -0,0 +1,36 @@
+package com.taskmanager.task.application;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Instant;
+import java.time.temporal.ChronoUnit;
+import java.util.Base64;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.common.response.ApiMessage;
+
+/**
+ * Opaque delta sync position: changes at or after {@code at} are newer than
+ * what the client holds. Kept at microsecond precision, like the timestamps
+ * it is compared with.
+ */
+public record TaskWatermark(Instant at) {
+
+	public TaskWatermark {
+		at = at.truncatedTo(ChronoUnit.MICROS);
+	}
+
+	public String encode() {
+		long micros = ChronoUnit.MICROS.between(Instant.EPOCH, at);
+		return Base64.getUrlEncoder().withoutPadding()
+				.encodeToString(Long.toString(micros).getBytes(StandardCharsets.US_ASCII));
+	}
+
+	public static TaskWatermark decode(String token) {
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(token), StandardCharsets.US_ASCII);
+			return new TaskWatermark(Instant.EPOCH.plus(Long.parseLong(raw), ChronoUnit.MICROS));
+		} catch (IllegalArgumentException | ArithmeticException ex) {
+			throw new BadRequestException(ApiMessage.INVALID_WATERMARK);
+		}
+	}
+}
@@ -3,16 +3,27 @@ package com.taskmanager.task.domain;
 import java.time.Instant;
 import java.util.UUID;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.ColumnDefault;
+import org.hibernate.annotations.PartitionKey;
+
 import jakarta.persistence.Column;
+import jakarta.persistence.ColumnResult;
 import jakarta.persistence.Entity;
+import jakarta.persistence.EntityResult;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.PrePersist;
 import jakarta.persistence.PreUpdate;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.SqlResultSetMapping;
 import jakarta.persistence.Table;
+import jakarta.persistence.Version;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
 import lombok.Data;
@@ -24,12 +35,27 @@ import lombok.NoArgsConstructor;
 @Data
 
 @Entity
-@Table(name = "tasks")
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = Task.CACHE_REGION)
+@SqlResultSetMapping(name = Task.SEARCH_HIT_MAPPING, entities = @EntityResult(entityClass = Task.class),
+		columns = @ColumnResult(name = "rank", type = Float.class))
+@Table(name = "tasks", indexes = {
+		@Index(name = "idx_tasks_user_status_order", columnList = "user_id, status, order_task, id"),
+		@Index(name = "idx_tasks_user_order", columnList = "user_id, order_task, id"),
+		@Index(name = "idx_tasks_user_updated", columnList = "user_id, updated_at") })
 public class Task {
+
+	public static final String SEARCH_HIT_MAPPING = "Task.searchHit";
+
+	/** Second-level cache region, created and sized in {@code CacheConfig}. */
+	public static final String CACHE_REGION = "taskEntities";
+
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "tasks_seq")
+	@SequenceGenerator(name = "tasks_seq", sequenceName = "tasks_seq", allocationSize = 50)
 	private Long id;
 
+	/** tasks is hash-partitioned on user_id; updates and deletes carry it to hit one partition. */
+	@PartitionKey
 	@Column(nullable = false)
 	private UUID userId;
 
@@ -52,6 +78,11 @@ public class Task {
 	@Column(name = "order_task")  
 	private Long  order; 
 
+	@Version
+	@ColumnDefault("0")
+	@Column(nullable = false)
+	private long version;
+
 	@PrePersist
 	void onCreate() {
 		createdAt = Instant.now();
@@ -0,0 +1,45 @@
+package com.taskmanager.task.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Tombstone of a deleted task, kept so delta sync clients learn about
+ * deletions. Purged once older than the change retention.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+@Table(name = "task_deletions", indexes = {
+		@Index(name = "idx_task_deletions_user_deleted", columnList = "user_id, deleted_at") })
+public class TaskDeletion {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_deletions_seq")
+	@SequenceGenerator(name = "task_deletions_seq", sequenceName = "task_deletions_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private UUID userId;
+
+	@Column(nullable = false)
+	private Long taskId;
+
+	@Column(nullable = false)
+	private Instant deletedAt;
+}
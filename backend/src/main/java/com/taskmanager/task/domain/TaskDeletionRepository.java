@@ -0,0 +1,23 @@
+package com.taskmanager.task.domain;
+
+import java.time.Instant;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskDeletionRepository extends JpaRepository<TaskDeletion, Long> {
+
+	@Query("""
+			select d.taskId from TaskDeletion d
+			where d.userId = :userId and d.deletedAt >= :since
+			order by d.deletedAt asc, d.id asc""")
+	public List<Long> findTaskIdsDeletedSince(@Param("userId") UUID userId, @Param("since") Instant since);
+
+	@Modifying
+	@Query("delete from TaskDeletion d where d.deletedAt < :cutoff")
+	public int deleteOlderThan(@Param("cutoff") Instant cutoff);
+}
@@ -0,0 +1,58 @@
+package com.taskmanager.task.domain;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.PrePersist;
+import jakarta.persistence.SequenceGenerator;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Outbox row written in the same transaction as the task change it records.
+ * Rows are deleted once dispatched. {@code id} comes from a pooled sequence,
+ * so it is unique but not in commit order; the task's {@code version} in the
+ * payload orders its changes.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+@Table(name = "task_events")
+public class TaskEvent {
+	@Id
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "task_events_seq")
+	@SequenceGenerator(name = "task_events_seq", sequenceName = "task_events_seq", allocationSize = 50)
+	private Long id;
+
+	@Column(nullable = false)
+	private UUID userId;
+
+	@Column(nullable = false)
+	private Long taskId;
+
+	@Column(nullable = false, length = 20)
+	private String type;
+
+	/** Task as JSON, {@code null} for deletions. */
+	@Column(columnDefinition = "TEXT")
+	private String payload;
+
+	@Column(nullable = false, updatable = false)
+	private Instant createdAt;
+
+	@PrePersist
+	void onCreate() {
+		createdAt = Instant.now();
+	}
+}
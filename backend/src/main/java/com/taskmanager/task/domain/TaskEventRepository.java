@@ -0,0 +1,26 @@
+package com.taskmanager.task.domain;
+
+import java.util.List;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+
+public interface TaskEventRepository extends JpaRepository<TaskEvent, Long> {
+
+	/**
+	 * Oldest undispatched events, locked with {@code FOR UPDATE SKIP LOCKED}
+	 * (lock timeout {@code -2}) so concurrent dispatchers claim disjoint batches
+	 * instead of waiting on each other.
+	 */
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@QueryHints(@QueryHint(name = AvailableSettings.JAKARTA_LOCK_TIMEOUT, value = "-2"))
+	@Query("select e from TaskEvent e order by e.id asc")
+	public List<TaskEvent> lockNextBatch(Pageable pageable);
+}
@@ -0,0 +1,59 @@
+package com.taskmanager.task.domain;
+
+import java.io.Serializable;
+import java.time.Instant;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A client's {@code Idempotency-Key} and the response it produced, committed
+ * together with the request's writes. The primary key lets only one request
+ * hold a key.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+@Table(name = "task_idempotency_keys", indexes = {
+		@Index(name = "idx_task_idempotency_keys_expires", columnList = "expires_at") })
+@IdClass(TaskIdempotencyKey.Key.class)
+public class TaskIdempotencyKey {
+	@Id
+	private UUID userId;
+
+	@Id
+	@Column(length = 255)
+	private String idempotencyKey;
+
+	/** SHA-256 of the request body, so a key reused for another request is rejected. */
+	@Column(nullable = false, length = 64)
+	private String requestHash;
+
+	private Integer responseStatus;
+
+	@Column(columnDefinition = "TEXT")
+	private String responseBody;
+
+	@Column(nullable = false)
+	private Instant expiresAt;
+
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Data
+	public static class Key implements Serializable {
+		private UUID userId;
+		private String idempotencyKey;
+	}
+}
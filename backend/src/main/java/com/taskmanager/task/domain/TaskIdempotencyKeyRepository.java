@@ -0,0 +1,15 @@
+package com.taskmanager.task.domain;
+
+import java.time.Instant;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface TaskIdempotencyKeyRepository extends JpaRepository<TaskIdempotencyKey, TaskIdempotencyKey.Key> {
+
+	@Modifying
+	@Query("delete from TaskIdempotencyKey k where k.expiresAt < :now")
+	public int deleteExpired(@Param("now") Instant now);
+}
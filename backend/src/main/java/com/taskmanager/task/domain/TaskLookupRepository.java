@@ -0,0 +1,14 @@
+package com.taskmanager.task.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public interface TaskLookupRepository {
+
+	/**
+	 * The task with this id if {@code userId} owns it. Served from the
+	 * second-level cache when the task is in it, otherwise by a query that
+	 * prunes to the user's partition.
+	 */
+	public Optional<Task> findByIdAndUserId(long id, UUID userId);
+}
@@ -0,0 +1,53 @@
+package com.taskmanager.task.domain;
+
+import java.util.Optional;
+import java.util.UUID;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import jakarta.persistence.CacheStoreMode;
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+/**
+ * A query cache would be invalidated by every write to {@code tasks} from any
+ * user, so the lookup goes through the entity cache by id instead and checks
+ * the owner in memory. A cache miss runs the partition-pruned query, whose
+ * result Hibernate puts into the entity cache, unless it may have come from
+ * a lagging replica: with replicas on, only read-write transactions, which
+ * run on the primary, fill the cache.
+ */
+class TaskLookupRepositoryImpl implements TaskLookupRepository {
+
+	private static final String FIND_OWNED = "select t from Task t where t.id = :id and t.userId = :userId";
+	private static final String STORE_MODE = "jakarta.persistence.cache.storeMode";
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Value("${app.datasource.replicas.enabled:false}")
+	private boolean replicaReads;
+
+	@Override
+	public Optional<Task> findByIdAndUserId(long id, UUID userId) {
+		Task task = null;
+		// a find by id alone would probe every partition on a miss
+		if (entityManager.getEntityManagerFactory().getCache().contains(Task.class, id)) {
+			task = entityManager.find(Task.class, id);
+		}
+		if (task == null) {
+			return entityManager.createQuery(FIND_OWNED, Task.class)
+					.setParameter("id", id)
+					.setParameter("userId", userId)
+					.setHint(STORE_MODE, replicaReads && TransactionSynchronizationManager.isCurrentTransactionReadOnly()
+							? CacheStoreMode.BYPASS
+							: CacheStoreMode.USE)
+					// a stream would load after the query restored the session's cache mode
+					.getResultList()
+					.stream()
+					.findFirst();
+		}
+		return userId.equals(task.getUserId()) ? Optional.of(task) : Optional.empty();
+	}
+}
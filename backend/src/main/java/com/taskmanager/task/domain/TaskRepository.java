@@ -1,15 +1,174 @@
 package com.taskmanager.task.domain;
 
+import java.time.Instant;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.stream.Stream;
 
+import org.hibernate.jpa.HibernateHints;
+
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskSummary;
+
+import jakarta.persistence.QueryHint;
+
 @Repository
-public interface TaskRepository extends JpaRepository<Task, Long> {
+public interface TaskRepository extends JpaRepository<Task, Long>, TaskSearchRepository, TaskLookupRepository {
 	public List<Task> findByUserIdOrderByOrder(UUID userId);
-	public Optional<Task> findByIdAndUserId(long id ,UUID userId);
-	
+	/**
+	 * Board rows read straight into DTOs: no entities, no persistence context
+	 * entries, no dirty-checking snapshots.
+	 */
+	@Query("""
+			select new com.taskmanager.task.dto.TaskResponse(t.id, t.title, t.description, t.status, t.createdAt,
+				t.updatedAt, t.order, t.version)
+			from Task t where t.userId = :userId order by t.order asc""")
+	public List<TaskResponse> findResponsesByUserId(@Param("userId") UUID userId);
+
+	/** Like {@link #findResponsesByUserId} but never reads the TEXT description. */
+	@Query("""
+			select new com.taskmanager.task.dto.TaskSummary(t.id, t.title, t.status, t.createdAt, t.updatedAt,
+				t.order, t.version)
+			from Task t where t.userId = :userId order by t.order asc""")
+	public List<TaskSummary> findSummariesByUserId(@Param("userId") UUID userId);
+
+	public List<Task> findByUserIdAndIdIn(UUID userId, Collection<Long> ids);
+
+	public boolean existsByIdAndUserId(long id, UUID userId);
+
+	/**
+	 * Status change and status counter update in one round trip. The locking
+	 * read captures the previous status, which {@code RETURNING} cannot see.
+	 * Counters are upserted, so a user without counter rows still gets them
+	 * instead of the change being dropped.
+	 */
+	@Query(nativeQuery = true, value = """
+			with previous as (
+				select id, status from tasks where id = :id and user_id = :userId for update),
+			updated as (
+				update tasks t set status = :status, updated_at = :updatedAt, version = t.version + 1
+				from previous p
+				where t.id = p.id and t.user_id = :userId and t.version = coalesce(cast(:version as bigint), t.version)
+				returning t.*, p.status as previous_status),
+			counted as (
+				insert into task_status_counts (user_id, status, task_count)
+				select u.user_id, d.status, d.delta
+				from updated u cross join lateral (values (u.status, 1), (u.previous_status, -1)) d(status, delta)
+				where u.status <> u.previous_status
+				on conflict (user_id, status)
+				do update set task_count = task_status_counts.task_count + excluded.task_count)
+			select id, user_id, title, description, status, created_at, updated_at, order_task, version
+			from updated""")
+	public Optional<Task> updateStatusReturning(@Param("id") long id, @Param("userId") UUID userId,
+			@Param("status") String status, @Param("updatedAt") Instant updatedAt, @Param("version") Long version);
+
+	@Query("""
+			select t from Task t
+			where t.userId = :userId and t.updatedAt >= :since
+			order by t.updatedAt asc, t.id asc""")
+	public List<Task> findChangedSince(@Param("userId") UUID userId, @Param("since") Instant since);
+
+	@Query("select distinct t.userId from Task t order by t.userId asc")
+	public List<UUID> findFirstUserIds(Pageable pageable);
+
+	@Query("select distinct t.userId from Task t where t.userId > :after order by t.userId asc")
+	public List<UUID> findUserIdsAfter(@Param("after") UUID after, Pageable pageable);
+
+	@Query("""
+			select t.userId as userId, t.status as status, count(t) as taskCount from Task t
+			where t.userId in :userIds
+			group by t.userId, t.status""")
+	public List<StatusCount> countByStatus(@Param("userIds") Collection<UUID> userIds);
+
+	public interface StatusCount {
+		UUID getUserId();
+
+		TaskStatus getStatus();
+
+		long getTaskCount();
+	}
+
+	@Query("""
+			select t.id from Task t
+			where t.userId = :userId and t.status = :status
+			order by t.order asc nulls last, t.id asc""")
+	public List<Long> findLaneIds(@Param("userId") UUID userId, @Param("status") TaskStatus status);
+
+	// exports would only churn the second-level cache
+	@QueryHints({ @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "500"),
+			@QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true"),
+			@QueryHint(name = HibernateHints.HINT_CACHE_MODE, value = "IGNORE") })
+	public Stream<Task> streamByUserIdOrderByOrder(UUID userId);
+
+	/**
+	 * Keyset pages of the board, or of one lane when {@code status} is set. The
+	 * board and each lane have their own queries, so both seek on an index that
+	 * already holds the rows in page order: {@code idx_tasks_user_order} and
+	 * {@code idx_tasks_user_status_order}.
+	 */
+	public default List<Task> findFirstPage(UUID userId, TaskStatus status, Pageable pageable) {
+		return status == null ? findFirstPage(userId, pageable) : findFirstLanePage(userId, status, pageable);
+	}
+
+	/** Ordered tasks after the cursor; tasks without an order come after them, see {@link #findUnorderedPageAfter}. */
+	public default List<Task> findPageAfter(UUID userId, TaskStatus status, long order, long id, Pageable pageable) {
+		return status == null ? findPageAfter(userId, order, id, pageable)
+				: findLanePageAfter(userId, status, order, id, pageable);
+	}
+
+	public default List<Task> findUnorderedPageAfter(UUID userId, TaskStatus status, long id, Pageable pageable) {
+		return status == null ? findUnorderedPageAfter(userId, id, pageable)
+				: findUnorderedLanePageAfter(userId, status, id, pageable);
+	}
+
+	@Query("""
+			select t from Task t
+			where t.userId = :userId
+			order by t.order asc nulls last, t.id asc""")
+	public List<Task> findFirstPage(@Param("userId") UUID userId, Pageable pageable);
+
+	@Query("""
+			select t from Task t
+			where t.userId = :userId and t.status = :status
+			order by t.order asc nulls last, t.id asc""")
+	public List<Task> findFirstLanePage(@Param("userId") UUID userId, @Param("status") TaskStatus status,
+			Pageable pageable);
+
+	// a row comparison is a single index range; null orders never match it
+	@Query("""
+			select t from Task t
+			where t.userId = :userId and (t.order, t.id) > (:order, :id)
+			order by t.order asc, t.id asc""")
+	public List<Task> findPageAfter(@Param("userId") UUID userId, @Param("order") long order, @Param("id") long id,
+			Pageable pageable);
+
+	@Query("""
+			select t from Task t
+			where t.userId = :userId and t.status = :status and (t.order, t.id) > (:order, :id)
+			order by t.order asc, t.id asc""")
+	public List<Task> findLanePageAfter(@Param("userId") UUID userId, @Param("status") TaskStatus status,
+			@Param("order") long order, @Param("id") long id, Pageable pageable);
+
+	@Query("""
+			select t from Task t
+			where t.userId = :userId and t.order is null and t.id > :id
+			order by t.id asc""")
+	public List<Task> findUnorderedPageAfter(@Param("userId") UUID userId, @Param("id") long id, Pageable pageable);
+
+	@Query("""
+			select t from Task t
+			where t.userId = :userId and t.status = :status and t.order is null and t.id > :id
+			order by t.id asc""")
+	public List<Task> findUnorderedLanePageAfter(@Param("userId") UUID userId, @Param("status") TaskStatus status,
+			@Param("id") long id, Pageable pageable);
+
 }
@@ -0,0 +1,4 @@
+package com.taskmanager.task.domain;
+
+public record TaskSearchHit(Task task, float rank) {
+}
@@ -0,0 +1,14 @@
+package com.taskmanager.task.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+public interface TaskSearchRepository {
+
+	/**
+	 * Tasks matching a web-style query ({@code "quoted phrases"}, {@code or},
+	 * {@code -excluded}) by descending rank, then id. Pass the last hit's rank
+	 * and id to continue after it. PostgreSQL only.
+	 */
+	public List<TaskSearchHit> search(UUID userId, String query, Float afterRank, Long afterId, int limit);
+}
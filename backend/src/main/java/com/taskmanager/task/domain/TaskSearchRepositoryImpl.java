@@ -0,0 +1,42 @@
+package com.taskmanager.task.domain;
+
+import java.util.List;
+import java.util.UUID;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.PersistenceContext;
+
+class TaskSearchRepositoryImpl implements TaskSearchRepository {
+
+	/** Must match the configuration {@code search_vector} is generated with in the migrations. */
+	static final String TEXT_SEARCH_CONFIG = "english";
+
+	private static final String SEARCH = """
+			select id, user_id, title, description, status, created_at, updated_at, order_task, version, rank
+			from (
+			    select t.*, ts_rank(t.search_vector, query) as rank
+			    from tasks t, websearch_to_tsquery('%s', :query) query
+			    where t.user_id = :userId and t.search_vector @@ query) hits
+			where cast(:afterRank as real) is null
+			    or (rank, id) < (cast(:afterRank as real), cast(:afterId as bigint))
+			order by rank desc, id desc
+			limit :limit""".formatted(TEXT_SEARCH_CONFIG);
+
+	@PersistenceContext
+	private EntityManager entityManager;
+
+	@Override
+	public List<TaskSearchHit> search(UUID userId, String query, Float afterRank, Long afterId, int limit) {
+		List<?> rows = entityManager.createNativeQuery(SEARCH, Task.SEARCH_HIT_MAPPING)
+				.setParameter("userId", userId)
+				.setParameter("query", query)
+				.setParameter("afterRank", afterRank)
+				.setParameter("afterId", afterId)
+				.setParameter("limit", limit)
+				.getResultList();
+		return rows.stream().map(row -> {
+			Object[] columns = (Object[]) row;
+			return new TaskSearchHit((Task) columns[0], ((Number) columns[1]).floatValue());
+		}).toList();
+	}
+}
@@ -0,0 +1,49 @@
+package com.taskmanager.task.domain;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.Id;
+import jakarta.persistence.IdClass;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Number of a user's tasks in one status, kept up to date by every task write
+ * so board statistics never scan {@code tasks}.
+ */
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+@Data
+
+@Entity
+@Table(name = "task_status_counts")
+@IdClass(TaskStatusCount.Key.class)
+public class TaskStatusCount {
+	@Id
+	private UUID userId;
+
+	@Id
+	@Enumerated(EnumType.STRING)
+	@Column(length = 20)
+	private TaskStatus status;
+
+	@Column(nullable = false)
+	private long taskCount;
+
+	@NoArgsConstructor
+	@AllArgsConstructor
+	@Data
+	public static class Key implements Serializable {
+		private UUID userId;
+		private TaskStatus status;
+	}
+}
@@ -0,0 +1,28 @@
+package com.taskmanager.task.domain;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import jakarta.persistence.LockModeType;
+
+public interface TaskStatusCountRepository extends JpaRepository<TaskStatusCount, TaskStatusCount.Key> {
+
+	public List<TaskStatusCount> findByUserId(UUID userId);
+
+	@Modifying
+	@Query("""
+			update TaskStatusCount c set c.taskCount = c.taskCount + :delta
+			where c.userId = :userId and c.status = :status""")
+	public int increment(@Param("userId") UUID userId, @Param("status") TaskStatus status, @Param("delta") long delta);
+
+	@Lock(LockModeType.PESSIMISTIC_WRITE)
+	@Query("select c from TaskStatusCount c where c.userId in :userIds")
+	public List<TaskStatusCount> lockByUserIdIn(@Param("userIds") Collection<UUID> userIds);
+}
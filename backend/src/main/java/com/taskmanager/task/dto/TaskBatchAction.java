@@ -0,0 +1,5 @@
+package com.taskmanager.task.dto;
+
+public enum TaskBatchAction {
+	CREATE, UPDATE, DELETE
+}
@@ -0,0 +1,7 @@
+package com.taskmanager.task.dto;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotNull;
+
+public record TaskBatchOperation(@NotNull TaskBatchAction action, Long id, @Valid TaskUpsertRequest task) {
+}
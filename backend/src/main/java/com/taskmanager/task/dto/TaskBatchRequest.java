@@ -0,0 +1,11 @@
+package com.taskmanager.task.dto;
+
+import java.util.List;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.NotNull;
+import jakarta.validation.constraints.Size;
+
+public record TaskBatchRequest(@NotEmpty @Size(max = 1000) List<@Valid @NotNull TaskBatchOperation> operations) {
+}
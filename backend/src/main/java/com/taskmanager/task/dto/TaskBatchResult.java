@@ -0,0 +1,7 @@
+package com.taskmanager.task.dto;
+
+import com.taskmanager.common.response.MessageType;
+
+public record TaskBatchResult(int index, TaskBatchAction action, Long id, TaskResponse task, String message,
+		MessageType type) {
+}
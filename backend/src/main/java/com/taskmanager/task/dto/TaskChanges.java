@@ -0,0 +1,10 @@
+package com.taskmanager.task.dto;
+
+import java.util.List;
+
+/**
+ * Delta since a watermark. With {@code reset} set, {@code changed} is the full
+ * board and replaces whatever the client holds.
+ */
+public record TaskChanges(List<TaskResponse> changed, List<Long> deleted, String next, boolean reset) {
+}
@@ -0,0 +1,12 @@
+package com.taskmanager.task.dto;
+
+import com.taskmanager.task.domain.TaskStatus;
+
+/**
+ * Places a task between two neighbours of a lane: {@code afterId} is the task
+ * it should follow, {@code beforeId} the task it should precede. Either may be
+ * omitted at the ends of the lane; {@code status} defaults to the neighbours'
+ * lane.
+ */
+public record TaskMoveRequest(Long afterId, Long beforeId, TaskStatus status) {
+}
@@ -0,0 +1,6 @@
+package com.taskmanager.task.dto;
+
+import java.util.List;
+
+public record TaskPage(List<TaskResponse> items, String nextCursor, boolean hasNext) {
+}
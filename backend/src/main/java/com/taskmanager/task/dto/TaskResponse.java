@@ -5,5 +5,5 @@ import java.time.Instant;
 import com.taskmanager.task.domain.TaskStatus;
 
 public record TaskResponse(Long id, String title, String description, TaskStatus status, Instant createdAt,
-		Instant updatedAt, Long order) {
+		Instant updatedAt, Long order, Long version) {
 }
@@ -0,0 +1,8 @@
+package com.taskmanager.task.dto;
+
+import java.util.Map;
+
+import com.taskmanager.task.domain.TaskStatus;
+
+public record TaskStats(Map<TaskStatus, Long> byStatus, long total) {
+}
@@ -0,0 +1,10 @@
+package com.taskmanager.task.dto;
+
+import java.time.Instant;
+
+import com.taskmanager.task.domain.TaskStatus;
+
+/** {@link TaskResponse} without the description, for views that never show it. */
+public record TaskSummary(Long id, String title, TaskStatus status, Instant createdAt, Instant updatedAt, Long order,
+		Long version) {
+}
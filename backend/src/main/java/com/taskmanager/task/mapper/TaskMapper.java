@@ -15,5 +15,6 @@ public interface TaskMapper {
 	@Mapping(target = "userId", ignore = true)
 	@Mapping(target = "createdAt", ignore = true)
 	@Mapping(target = "updatedAt", ignore = true)
+	@Mapping(target = "version", ignore = true)
 	Task toEntity(TaskUpsertRequest request);
 }
@@ -0,0 +1,63 @@
+-- Schema as ddl-auto=update and the startup initializers left it. Every
+-- statement is guarded, so databases created before migrations existed
+-- (baselined at version 0) run this as a no-op.
+
+create sequence if not exists tasks_seq start with 1 increment by 50;
+create sequence if not exists task_deletions_seq start with 1 increment by 50;
+create sequence if not exists task_events_seq start with 1 increment by 50;
+
+create table if not exists tasks (
+    id bigint not null,
+    user_id uuid not null,
+    title varchar(200) not null,
+    description text,
+    status varchar(255) not null check (status in ('TODO', 'DOING', 'DONE')),
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    order_task bigint,
+    version bigint default 0 not null,
+    constraint tasks_pkey primary key (id)
+);
+
+alter table tasks add column if not exists order_task bigint;
+alter table tasks add column if not exists version bigint default 0 not null;
+alter table tasks add column if not exists search_vector tsvector
+    generated always as (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')) stored;
+
+create index if not exists idx_tasks_user_status_order on tasks (user_id, status, order_task, id);
+create index if not exists idx_tasks_user_updated on tasks (user_id, updated_at);
+create index if not exists idx_tasks_search on tasks using gin (search_vector);
+
+-- task ids used to come from an identity column; keep pooled id blocks clear of old rows
+select setval('tasks_seq', greatest(
+    (select coalesce(max(id), 0) from tasks),
+    (select last_value from tasks_seq)));
+
+create table if not exists task_deletions (
+    id bigint not null,
+    user_id uuid not null,
+    task_id bigint not null,
+    deleted_at timestamp(6) with time zone not null,
+    constraint task_deletions_pkey primary key (id)
+);
+
+create index if not exists idx_task_deletions_user_deleted on task_deletions (user_id, deleted_at);
+
+create table if not exists task_events (
+    id bigint not null,
+    user_id uuid not null,
+    task_id bigint not null,
+    type varchar(20) not null,
+    payload text,
+    created_at timestamp(6) with time zone not null,
+    constraint task_events_pkey primary key (id)
+);
+
+create table if not exists task_status_counts (
+    user_id uuid not null,
+    status varchar(20) not null check (status in ('TODO', 'DOING', 'DONE')),
+    task_count bigint not null,
+    constraint task_status_counts_pkey primary key (user_id, status)
+);
@@ -0,0 +1,52 @@
+-- Rebuilds tasks as a table hash-partitioned on user_id. Every task query is
+-- scoped to one user, so each touches a single partition and index depth and
+-- vacuum work stay bounded by partition size. The partition count is the
+-- taskPartitions placeholder (TASK_PARTITIONS) when this migration runs;
+-- changing it afterwards takes a new migration.
+--
+-- Existing rows are copied inside this migration's transaction, which holds
+-- an exclusive lock on tasks until it commits: run it in a maintenance window
+-- on large tables.
+
+alter table tasks rename to tasks_unpartitioned;
+alter table tasks_unpartitioned rename constraint tasks_pkey to tasks_unpartitioned_pkey;
+drop index if exists idx_tasks_user_status_order;
+drop index if exists idx_tasks_user_updated;
+drop index if exists idx_tasks_search;
+
+create table tasks (
+    id bigint not null,
+    user_id uuid not null,
+    title varchar(200) not null,
+    description text,
+    status varchar(255) not null check (status in ('TODO', 'DOING', 'DONE')),
+    created_at timestamp(6) with time zone not null,
+    updated_at timestamp(6) with time zone not null,
+    order_task bigint,
+    version bigint default 0 not null,
+    search_vector tsvector generated always as (
+        setweight(to_tsvector('english', coalesce(title, '')), 'A') ||
+        setweight(to_tsvector('english', coalesce(description, '')), 'B')) stored
+) partition by hash (user_id);
+
+do $$
+begin
+    for i in 0 .. ${taskPartitions} - 1 loop
+        execute format('create table tasks_p%s partition of tasks for values with (modulus %s, remainder %s)',
+            lpad(i::text, 3, '0'), ${taskPartitions}, i);
+    end loop;
+end $$;
+
+insert into tasks (id, user_id, title, description, status, created_at, updated_at, order_task, version)
+select id, user_id, title, description, status, created_at, updated_at, order_task, version
+from tasks_unpartitioned;
+
+drop table tasks_unpartitioned;
+
+-- built after the copy; unique indexes on a partitioned table must contain the partition key
+alter table tasks add constraint tasks_pkey primary key (id, user_id);
+create index idx_tasks_user_status_order on tasks (user_id, status, order_task, id);
+create index idx_tasks_user_updated on tasks (user_id, updated_at);
+create index idx_tasks_search on tasks using gin (search_vector);
+
+analyze tasks;
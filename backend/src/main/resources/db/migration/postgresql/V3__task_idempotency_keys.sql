@@ -0,0 +1,13 @@
+-- Responses of POST /api/tasks by Idempotency-Key. The primary key is what
+-- stops two nodes from running the same key at once.
+create table task_idempotency_keys (
+    user_id uuid not null,
+    idempotency_key varchar(255) not null,
+    request_hash varchar(64) not null,
+    response_status integer,
+    response_body text,
+    expires_at timestamp(6) with time zone not null,
+    constraint task_idempotency_keys_pkey primary key (user_id, idempotency_key)
+);
+
+create index idx_task_idempotency_keys_expires on task_idempotency_keys (expires_at);
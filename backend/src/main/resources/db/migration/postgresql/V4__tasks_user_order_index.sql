@@ -0,0 +1,4 @@
+-- Board pages without a status filter walk (order_task, id) within one user.
+-- idx_tasks_user_status_order leads with status, so it cannot hand those rows
+-- over in page order and every page would sort the whole board.
+create index idx_tasks_user_order on tasks (user_id, order_task, id);
@@ -0,0 +1,9 @@
+-- V1 created task_status_counts empty. Users who already had tasks get one row
+-- per status counted from their tasks; rows written since are recounted too.
+insert into task_status_counts (user_id, status, task_count)
+select u.user_id, s.status, count(t.id)
+from (select distinct user_id from tasks) u
+cross join (values ('TODO'), ('DOING'), ('DONE')) s(status)
+left join tasks t on t.user_id = u.user_id and t.status = s.status
+group by u.user_id, s.status
+on conflict (user_id, status) do update set task_count = excluded.task_count;
@@ -0,0 +1,183 @@
+package com.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.sql.DataSource;
+
+import jakarta.servlet.Filter;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.context.support.StaticWebApplicationContext;
+import org.springframework.web.servlet.mvc.method.annotation.ExceptionHandlerExceptionResolver;
+
+import com.taskmanager.common.exception.GlobalExceptionHandler;
+import com.taskmanager.common.response.ApiMessage;
+import com.zaxxer.hikari.HikariDataSource;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("RateLimitFilter Unit Tests")
+class RateLimitFilterTest {
+
+	private final AtomicInteger handled = new AtomicInteger();
+	private final String alice = UUID.randomUUID().toString();
+	private final String bob = UUID.randomUUID().toString();
+	private RateLimitProperties properties;
+	private ExceptionHandlerExceptionResolver resolver;
+
+	@BeforeEach
+	void setUp() {
+		properties = new RateLimitProperties();
+		var context = new StaticWebApplicationContext();
+		context.registerSingleton("globalExceptionHandler", GlobalExceptionHandler.class);
+		context.refresh();
+		resolver = new ExceptionHandlerExceptionResolver();
+		resolver.setApplicationContext(context);
+		resolver.setMessageConverters(
+				List.of(new MappingJackson2HttpMessageConverter(Jackson2ObjectMapperBuilder.json().build())));
+		resolver.afterPropertiesSet();
+	}
+
+	@Test
+	@DisplayName("Should answer 429 with Retry-After once a user exceeds their rate")
+	void doFilter_ShouldRateLimitPerUser() throws Exception {
+		properties.setRequestsPerSecond(0.5);
+		properties.setBurst(2);
+		RateLimitFilter filter = filter();
+
+		assertThat(perform(filter, alice).getStatus()).isEqualTo(200);
+		assertThat(perform(filter, alice).getStatus()).isEqualTo(200);
+		MockHttpServletResponse limited = perform(filter, alice);
+
+		assertThat(limited.getStatus()).isEqualTo(429);
+		assertThat(limited.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("2");
+		assertThat(limited.getContentAsString()).contains(ApiMessage.RATE_LIMITED);
+		assertThat(perform(filter, bob).getStatus()).isEqualTo(200);
+		assertThat(handled).hasValue(3);
+	}
+
+	@Test
+	@DisplayName("Should let the browser read a rejection, since CORS runs before the limits")
+	void doFilter_ShouldCarryCorsHeadersOnRejection() throws Exception {
+		properties.setRequestsPerSecond(0.5);
+		properties.setBurst(1);
+		RateLimitFilter filter = filter();
+		var cors = new CorsConfig();
+		ReflectionTestUtils.setField(cors, "allowedOrigins", new String[] { "http://localhost:4200" });
+		Filter corsFilter = cors.corsFilter().getFilter();
+		perform(filter, alice);
+
+		var request = new MockHttpServletRequest("GET", "/api/tasks");
+		request.addHeader(RateLimitFilter.USER_HEADER, alice);
+		request.addHeader(HttpHeaders.ORIGIN, "http://localhost:4200");
+		var limited = new MockHttpServletResponse();
+		corsFilter.doFilter(request, limited, (req, res) -> filter.doFilter(req, res, (r, s) -> handled.incrementAndGet()));
+
+		assertThat(limited.getStatus()).isEqualTo(429);
+		assertThat(limited.getHeader(HttpHeaders.ACCESS_CONTROL_ALLOW_ORIGIN)).isEqualTo("http://localhost:4200");
+		assertThat(limited.getHeader(HttpHeaders.ACCESS_CONTROL_EXPOSE_HEADERS)).contains(HttpHeaders.RETRY_AFTER);
+	}
+
+	@Test
+	@DisplayName("Should answer 400 for a user id that is not a UUID, without creating a bucket")
+	void doFilter_ShouldRejectInvalidUserId() throws Exception {
+		UserRateLimiter limiter = new UserRateLimiter(properties);
+		RateLimitFilter filter = new RateLimitFilter(limiter, shedder(), resolver);
+
+		MockHttpServletResponse rejected = perform(filter, "alice");
+
+		assertThat(rejected.getStatus()).isEqualTo(400);
+		assertThat(rejected.getContentAsString()).contains(ApiMessage.INVALID_USER_ID);
+		assertThat(limiter.size()).isZero();
+		assertThat(handled).hasValue(0);
+	}
+
+	@Test
+	@DisplayName("Should answer 503 with Retry-After while the node is at capacity")
+	void doFilter_ShouldShedBeyondCapacity() throws Exception {
+		properties.setMaxInFlight(1);
+		LoadShedder shedder = shedder();
+		RateLimitFilter filter = new RateLimitFilter(new UserRateLimiter(properties), shedder, resolver);
+		assertThat(shedder.tryEnter()).isTrue();
+
+		MockHttpServletResponse shed = perform(filter, alice);
+
+		assertThat(shed.getStatus()).isEqualTo(503);
+		assertThat(shed.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("1");
+		assertThat(shed.getContentAsString()).contains(ApiMessage.SERVICE_OVERLOADED);
+		assertThat(handled).hasValue(0);
+
+		shedder.exit();
+		assertThat(perform(filter, alice).getStatus()).isEqualTo(200);
+		assertThat(shedder.inFlight()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should keep admitting when the pool cannot be sampled")
+	void sample_ShouldIgnoreOtherPools() {
+		properties.setMaxPoolWait(Duration.ZERO);
+		LoadShedder shedder = shedder();
+
+		shedder.sample();
+
+		assertThat(shedder.poolSaturated()).isFalse();
+		assertThat(shedder.tryEnter()).isTrue();
+	}
+
+	@Test
+	@DisplayName("Should sample the pool on its own thread, not the shared scheduler")
+	void start_ShouldSampleOnDedicatedThread() throws Exception {
+		properties.setSampleInterval(Duration.ofMillis(10));
+		DataSource dataSource = mock(DataSource.class);
+		var sampledOn = new CompletableFuture<String>();
+		when(dataSource.unwrap(HikariDataSource.class)).thenAnswer(invocation -> {
+			sampledOn.complete(Thread.currentThread().getName());
+			throw new SQLException("not hikari");
+		});
+		LoadShedder shedder = new LoadShedder(properties, dataSource, new SimpleMeterRegistry());
+
+		shedder.start();
+		try {
+			assertThat(sampledOn.get(5, TimeUnit.SECONDS)).isEqualTo(LoadShedder.THREAD_NAME);
+			assertThat(shedder.isRunning()).isTrue();
+		} finally {
+			shedder.stop();
+		}
+		assertThat(shedder.isRunning()).isFalse();
+	}
+
+	private RateLimitFilter filter() {
+		return new RateLimitFilter(new UserRateLimiter(properties), shedder(), resolver);
+	}
+
+	private LoadShedder shedder() {
+		return new LoadShedder(properties, new DriverManagerDataSource(), new SimpleMeterRegistry());
+	}
+
+	private MockHttpServletResponse perform(RateLimitFilter filter, String user) throws Exception {
+		var request = new MockHttpServletRequest("GET", "/api/tasks");
+		request.addHeader(RateLimitFilter.USER_HEADER, user);
+		var response = new MockHttpServletResponse();
+		filter.doFilter(request, response, (req, res) -> handled.incrementAndGet());
+		return response;
+	}
+}
@@ -0,0 +1,159 @@
+package com.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@DisplayName("ReplicaRoutingDataSource Tests")
+class ReplicaRoutingDataSourceTest {
+
+	private DriverManagerDataSource primary;
+	private DriverManagerDataSource replica;
+	private ReplicaProperties properties;
+	private JdbcTemplate jdbc;
+	private TransactionTemplate reads;
+	private TransactionTemplate writes;
+	private ReplicaRoutingDataSource router;
+
+	@BeforeEach
+	void setUp() {
+		primary = database("primary");
+		replica = database("replica");
+		properties = new ReplicaProperties();
+		properties.setLagQuery("select seconds from replication_lag");
+		properties.setMaxLag(Duration.ofSeconds(5));
+		route(List.of(replica));
+	}
+
+	@AfterEach
+	void tearDown() {
+		ReplicaRoutingDataSource.clearCurrentUser();
+		new JdbcTemplate(primary).execute("drop all objects");
+		new JdbcTemplate(replica).execute("drop all objects");
+	}
+
+	@Test
+	@DisplayName("Should send read-only transactions to the replica and writes to the primary")
+	void transactions_ShouldRouteByReadOnlyFlag() {
+		assertThat(read()).isEqualTo("replica");
+		assertThat(write()).isEqualTo("primary");
+	}
+
+	@Test
+	@DisplayName("Should keep reads on the primary while the replica lags too far behind")
+	void checkLag_ShouldSkipLaggingReplica() {
+		new JdbcTemplate(replica).update("update replication_lag set seconds = 30");
+		router.checkLag();
+		assertThat(read()).isEqualTo("primary");
+
+		new JdbcTemplate(replica).update("update replication_lag set seconds = 1");
+		router.checkLag();
+		assertThat(read()).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("Should read a user's own writes from the primary, other users from the replica")
+	void reads_ShouldFollowOwnWritesToPrimary() {
+		UUID writer = UUID.randomUUID();
+		router.recordWrite(writer);
+
+		ReplicaRoutingDataSource.setCurrentUser(writer);
+		assertThat(read()).isEqualTo("primary");
+
+		ReplicaRoutingDataSource.setCurrentUser(UUID.randomUUID());
+		assertThat(read()).isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("Should stamp writes and keep reads echoing a recent stamp on the primary on any node")
+	void filter_ShouldFollowWritesMadeThroughOtherNodes() throws Exception {
+		String user = UUID.randomUUID().toString();
+		var otherNode = new ReplicaUserFilter(Duration.ofSeconds(10), () -> 1_000_000L);
+		var write = new MockHttpServletRequest("POST", "/api/tasks");
+		write.addHeader(ReplicaUserFilter.USER_HEADER, user);
+		var written = new MockHttpServletResponse();
+		otherNode.doFilter(write, written, (req, res) -> {
+		});
+		String stamp = written.getHeader(ReplicaUserFilter.LAST_WRITE_HEADER);
+
+		assertThat(stamp).isEqualTo("1000000");
+		assertThat(readThrough(new ReplicaUserFilter(Duration.ofSeconds(10), () -> 1_005_000L), user, stamp))
+				.isEqualTo("primary");
+		assertThat(readThrough(new ReplicaUserFilter(Duration.ofSeconds(10), () -> 1_010_000L), user, stamp))
+				.isEqualTo("replica");
+		assertThat(readThrough(new ReplicaUserFilter(Duration.ofSeconds(10), () -> 1_005_000L), user, "soon"))
+				.isEqualTo("replica");
+	}
+
+	@Test
+	@DisplayName("Should spread reads over replicas and ignore writes when read-your-writes is off")
+	void reads_ShouldRoundRobinReplicas() {
+		DriverManagerDataSource second = database("replica-2");
+		properties.setReadYourWrites(Duration.ZERO);
+		route(List.of(replica, second));
+		UUID writer = UUID.randomUUID();
+		router.recordWrite(writer);
+		ReplicaRoutingDataSource.setCurrentUser(writer);
+
+		assertThat(List.of(read(), read()))
+				.containsExactlyInAnyOrder("replica", "replica-2");
+		new JdbcTemplate(second).execute("drop all objects");
+	}
+
+	private void route(List<DriverManagerDataSource> replicas) {
+		router = new ReplicaRoutingDataSource(primary, replicas, properties);
+		var proxy = new LazyConnectionDataSourceProxy(primary);
+		proxy.setReadOnlyDataSource(router);
+		jdbc = new JdbcTemplate(proxy);
+		var transactions = new DataSourceTransactionManager(proxy);
+		reads = new TransactionTemplate(transactions);
+		reads.setReadOnly(true);
+		writes = new TransactionTemplate(transactions);
+	}
+
+	private String readThrough(ReplicaUserFilter filter, String user, String lastWrite) throws Exception {
+		var request = new MockHttpServletRequest("GET", "/api/tasks");
+		request.addHeader(ReplicaUserFilter.USER_HEADER, user);
+		request.addHeader(ReplicaUserFilter.LAST_WRITE_HEADER, lastWrite);
+		var node = new AtomicReference<String>();
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> node.set(read()));
+		return node.get();
+	}
+
+	private String read() {
+		return reads.execute(status -> node());
+	}
+
+	private String write() {
+		return writes.execute(status -> node());
+	}
+
+	private String node() {
+		return jdbc.queryForObject("select name from node", String.class);
+	}
+
+	private static DriverManagerDataSource database(String name) {
+		var dataSource = new DriverManagerDataSource("jdbc:h2:mem:" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+		var jdbc = new JdbcTemplate(dataSource);
+		jdbc.execute("create table node (name varchar(20))");
+		jdbc.update("insert into node values (?)", name);
+		jdbc.execute("create table replication_lag (seconds double precision)");
+		jdbc.update("insert into replication_lag values (0)");
+		return dataSource;
+	}
+}
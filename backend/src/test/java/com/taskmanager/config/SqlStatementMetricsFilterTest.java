@@ -0,0 +1,54 @@
+package com.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.servlet.HandlerMapping;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("SqlStatementMetricsFilter Unit Tests")
+class SqlStatementMetricsFilterTest {
+
+	private final SqlStatementCounter counter = new SqlStatementCounter();
+	private SimpleMeterRegistry registry;
+	private SqlStatementMetricsFilter filter;
+
+	@BeforeEach
+	void setUp() {
+		registry = new SimpleMeterRegistry();
+		filter = new SqlStatementMetricsFilter(registry);
+	}
+
+	@Test
+	@DisplayName("Should record the statements of one request under its route")
+	void doFilter_ShouldRecordStatementsPerRoute() throws Exception {
+		counter.inspect("select 1");
+		var request = new MockHttpServletRequest("GET", "/api/tasks/7");
+
+		filter.doFilter(request, new MockHttpServletResponse(), (req, res) -> {
+			req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, "/api/tasks/{id}");
+			counter.inspect("select t from tasks t");
+			counter.inspect("select version from tasks");
+		});
+
+		DistributionSummary summary = registry.get(SqlStatementMetricsFilter.METRIC)
+				.tags("method", "GET", "uri", "/api/tasks/{id}").summary();
+		assertThat(summary.count()).isEqualTo(1);
+		assertThat(summary.totalAmount()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Should skip requests that matched no handler")
+	void doFilter_ShouldSkipUnmatchedRequests() throws Exception {
+		filter.doFilter(new MockHttpServletRequest("GET", "/missing"), new MockHttpServletResponse(),
+				(req, res) -> counter.inspect("select 1"));
+
+		assertThat(registry.find(SqlStatementMetricsFilter.METRIC).summary()).isNull();
+	}
+}
@@ -0,0 +1,80 @@
+package com.taskmanager.config;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+@DisplayName("UserRateLimiter Unit Tests")
+class UserRateLimiterTest {
+
+	// arbitrary, and negative like nanoTime may be
+	private final AtomicLong clock = new AtomicLong(-TimeUnit.HOURS.toNanos(1));
+	private final UUID alice = UUID.randomUUID();
+	private final UUID bob = UUID.randomUUID();
+	private UserRateLimiter limiter;
+
+	@BeforeEach
+	void setUp() {
+		limiter = new UserRateLimiter(10, 5, Duration.ofMinutes(1), 100, clock::get);
+	}
+
+	@Test
+	@DisplayName("Should allow a burst, then reject with the time until the next token")
+	void tryAcquire_ShouldAllowBurstThenReject() {
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire(alice)).isZero();
+		}
+
+		assertThat(limiter.tryAcquire(alice)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(100));
+		assertThat(limiter.tryAcquire(bob)).isZero();
+	}
+
+	@Test
+	@DisplayName("Should refill at the configured rate")
+	void tryAcquire_ShouldRefillOverTime() {
+		for (int i = 0; i < 5; i++) {
+			limiter.tryAcquire(alice);
+		}
+
+		advance(Duration.ofMillis(250));
+
+		assertThat(limiter.tryAcquire(alice)).isZero();
+		assertThat(limiter.tryAcquire(alice)).isZero();
+		assertThat(limiter.tryAcquire(alice)).isEqualTo(TimeUnit.MILLISECONDS.toNanos(50));
+	}
+
+	@Test
+	@DisplayName("Should drop only buckets idle past the timeout")
+	void tryAcquire_ShouldDropIdleBuckets() {
+		limiter.tryAcquire(alice);
+		advance(Duration.ofSeconds(50));
+		limiter.tryAcquire(bob);
+		advance(Duration.ofSeconds(20));
+
+		assertThat(limiter.size()).isEqualTo(1);
+		for (int i = 0; i < 5; i++) {
+			assertThat(limiter.tryAcquire(alice)).isZero();
+		}
+	}
+
+	@Test
+	@DisplayName("Should keep at most the configured number of buckets")
+	void tryAcquire_ShouldBoundBuckets() {
+		for (int i = 0; i < 1_000; i++) {
+			limiter.tryAcquire(UUID.randomUUID());
+		}
+
+		assertThat(limiter.size()).isLessThanOrEqualTo(100);
+	}
+
+	private void advance(Duration duration) {
+		clock.addAndGet(duration.toNanos());
+	}
+}
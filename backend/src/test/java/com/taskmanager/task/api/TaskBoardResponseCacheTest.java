@@ -0,0 +1,54 @@
+package com.taskmanager.task.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+import java.util.zip.GZIPInputStream;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.util.unit.DataSize;
+
+import com.taskmanager.task.application.TaskProperties;
+
+@DisplayName("TaskBoardResponseCache Unit Tests")
+class TaskBoardResponseCacheTest {
+
+	private final UUID userId = UUID.randomUUID();
+	private final byte[] json = "{\"data\":[],\"message\":\"Tasks retrieved successfully\"}"
+			.getBytes(StandardCharsets.UTF_8);
+
+	@Test
+	@DisplayName("Should only return a board rendered from the requested version")
+	void get_ShouldMatchVersion() {
+		var cache = new TaskBoardResponseCache(new TaskProperties(), false, DataSize.ofKilobytes(2));
+
+		cache.put(userId, 7L, json, 0);
+
+		assertThat(cache.get(userId, 7L).json()).isEqualTo(json);
+		assertThat(cache.get(userId, 8L)).isNull();
+	}
+
+	@Test
+	@DisplayName("Should keep a gzip copy when compression applies to the response size")
+	void put_ShouldGzipLargeEnoughBoards() throws IOException {
+		var cache = new TaskBoardResponseCache(new TaskProperties(), true, DataSize.ofBytes(16));
+
+		var board = cache.put(userId, 1L, json, 0);
+
+		try (var in = new GZIPInputStream(new ByteArrayInputStream(board.gzip()))) {
+			assertThat(in.readAllBytes()).isEqualTo(json);
+		}
+	}
+
+	@Test
+	@DisplayName("Should skip gzip when compression is disabled")
+	void put_ShouldNotGzipWhenCompressionDisabled() {
+		var cache = new TaskBoardResponseCache(new TaskProperties(), false, DataSize.ofBytes(16));
+
+		assertThat(cache.put(userId, 1L, json, 0).gzip()).isNull();
+	}
+}
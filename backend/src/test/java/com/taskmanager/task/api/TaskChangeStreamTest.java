@@ -0,0 +1,90 @@
+package com.taskmanager.task.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import com.taskmanager.task.application.TaskChangeType;
+import com.taskmanager.task.application.TaskChangedEvent;
+import com.taskmanager.task.application.TaskProperties;
+
+@DisplayName("TaskChangeStream Unit Tests")
+class TaskChangeStreamTest {
+
+    private final List<Runnable> scheduled = new ArrayList<>();
+    private final TaskProperties properties = new TaskProperties();
+    private TaskChangeStream stream;
+    private UUID userId;
+
+    @BeforeEach
+    void setUp() {
+        stream = new TaskChangeStream(scheduled::add, properties);
+        userId = UUID.randomUUID();
+    }
+
+    @Test
+    @DisplayName("Should schedule one drain per burst of changes")
+    void onTaskChanged_ShouldCoalesceDrains() {
+        stream.subscribe(userId);
+
+        for (int i = 0; i < 10; i++) {
+            stream.onTaskChanged(new TaskChangedEvent(userId, TaskChangeType.DELETED, i, null));
+        }
+
+        assertThat(scheduled).hasSize(1);
+        assertThat(stream.subscribers(userId)).isEqualTo(1);
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber whose buffer is full")
+    void onTaskChanged_ShouldDropSlowSubscriber() {
+        stream.subscribe(userId);
+        stream.subscribe(UUID.randomUUID());
+
+        for (int i = 0; i <= TaskChangeStream.BUFFER_SIZE; i++) {
+            stream.onTaskChanged(new TaskChangedEvent(userId, TaskChangeType.DELETED, i, null));
+        }
+
+        assertThat(stream.subscribers(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should disconnect a subscriber when the stream executor is saturated")
+    void onTaskChanged_ShouldDropSubscriberWhenExecutorRejects() {
+        stream = new TaskChangeStream(task -> {
+            throw new RejectedExecutionException("saturated");
+        }, properties);
+        stream.subscribe(userId);
+
+        stream.onTaskChanged(new TaskChangedEvent(userId, TaskChangeType.DELETED, 1, null));
+
+        assertThat(stream.subscribers(userId)).isZero();
+    }
+
+    @Test
+    @DisplayName("Should open connections with the configured timeout")
+    void subscribe_ShouldSetTimeout() {
+        properties.getStream().setTimeout(Duration.ofMinutes(5));
+        stream = new TaskChangeStream(scheduled::add, properties);
+
+        assertThat(stream.subscribe(userId).getTimeout()).isEqualTo(Duration.ofMinutes(5).toMillis());
+    }
+
+    @Test
+    @DisplayName("Should ignore changes of users without subscribers")
+    void onTaskChanged_ShouldIgnoreOtherUsers() {
+        stream.subscribe(userId);
+
+        stream.onTaskChanged(new TaskChangedEvent(UUID.randomUUID(), TaskChangeType.DELETED, 1, null));
+
+        assertThat(scheduled).isEmpty();
+    }
+}
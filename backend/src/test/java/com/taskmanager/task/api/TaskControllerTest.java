@@ -1,40 +1,77 @@
 package com.taskmanager.task.api;
 
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.patch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.time.Instant;
 import java.util.List;
+import java.util.Map;
 import java.util.UUID;
+import java.util.function.Consumer;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.test.context.bean.override.mockito.MockitoBean;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.taskmanager.common.exception.PreconditionFailedException;
+import com.taskmanager.common.exception.ResourceNotFoundException;
 import com.taskmanager.common.response.ApiMessage;
 import com.taskmanager.common.response.MessageType;
+import com.taskmanager.task.application.TaskBoardCache;
+import com.taskmanager.task.application.TaskBoardVersions;
+import com.taskmanager.task.application.TaskChangeType;
+import com.taskmanager.task.application.TaskChangedEvent;
+import com.taskmanager.task.application.TaskProperties;
 import com.taskmanager.task.application.TaskService;
 import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskBatchAction;
+import com.taskmanager.task.dto.TaskBatchOperation;
+import com.taskmanager.task.dto.TaskBatchRequest;
+import com.taskmanager.task.dto.TaskBatchResult;
+import com.taskmanager.task.dto.TaskMoveRequest;
+import com.taskmanager.task.dto.TaskPage;
 import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskStats;
+import com.taskmanager.task.dto.TaskSummary;
 import com.taskmanager.task.dto.TaskStatusUpdateRequest;
 import com.taskmanager.task.dto.TaskUpsertRequest;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @WebMvcTest(TaskController.class)
+@Import({ TaskBoardVersions.class, TaskBoardResponseCache.class, TaskChangeStream.class, TaskFields.class,
+        TaskProperties.class, SimpleMeterRegistry.class })
 @DisplayName("TaskController Unit Tests")
 class TaskControllerTest {
 
@@ -44,9 +81,21 @@ class TaskControllerTest {
     @Autowired
     private ObjectMapper objectMapper;
 
+    @Autowired
+    private ApplicationEventPublisher events;
+
+    @Autowired
+    private MeterRegistry meterRegistry;
+
     @MockitoBean
     private TaskService taskService;
 
+    @MockitoBean
+    private TaskIdempotency idempotency;
+
+    @MockitoBean
+    private TaskBoardCache boardCache;
+
     private UUID userId;
     private TaskResponse taskResponse;
     private TaskUpsertRequest taskUpsertRequest;
@@ -62,7 +111,8 @@ class TaskControllerTest {
                 TaskStatus.TODO,
                 Instant.now(),
                 Instant.now(),
-                1L
+                1L,
+                0L
         );
 
         taskUpsertRequest = new TaskUpsertRequest(
@@ -72,7 +122,7 @@ class TaskControllerTest {
                 1L
         );
 
-        statusUpdateRequest = new TaskStatusUpdateRequest(TaskStatus.TODO);
+        statusUpdateRequest = new TaskStatusUpdateRequest(TaskStatus.DOING);
     }
 
     @Test
@@ -112,6 +162,153 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.message").value(ApiMessage.TASKS_RETRIEVED));
     }
 
+    @Test
+    @DisplayName("Should serve the cached board bytes until the board changes")
+    void getTasks_ShouldServeCachedBoardUntilChanged() throws Exception {
+
+        when(taskService.getAll(userId)).thenReturn(List.of(taskResponse));
+        var boardSize = meterRegistry.summary("tasks.board.size");
+        long served = boardSize.count();
+
+
+        for (int i = 0; i < 3; i++) {
+            mockMvc.perform(get("/api/tasks").header("X-USER-ID", userId.toString()))
+                    .andExpect(status().isOk())
+                    .andExpect(jsonPath("$.data[0].id").value(1L));
+        }
+        verify(taskService, times(1)).getAll(userId);
+        // recorded on the two cache hits too
+        assertThat(boardSize.count()).isEqualTo(served + 3);
+
+        events.publishEvent(new TaskChangedEvent(userId, TaskChangeType.UPDATED, 1L, taskResponse));
+        mockMvc.perform(get("/api/tasks").header("X-USER-ID", userId.toString()))
+                .andExpect(status().isOk());
+        verify(taskService, times(2)).getAll(userId);
+    }
+
+    @Test
+    @DisplayName("Should get a page of tasks when a limit is given")
+    void getTasksPage_ShouldReturnPage() throws Exception {
+
+        when(taskService.getPage(userId, TaskStatus.TODO, 1, null))
+                .thenReturn(new TaskPage(List.of(taskResponse), "MTo1", true));
+
+
+        mockMvc.perform(get("/api/tasks")
+                .header("X-USER-ID", userId.toString())
+                .param("status", "TODO")
+                .param("limit", "1")
+                .contentType(MediaType.APPLICATION_JSON))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value("MTo1"))
+                .andExpect(jsonPath("$.data.hasNext").value(true))
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASKS_RETRIEVED));
+    }
+
+    @Test
+    @DisplayName("Should stream tasks as newline-delimited JSON")
+    void export_ShouldStreamNdjson() throws Exception {
+
+        doAnswer(invocation -> {
+            Consumer<TaskResponse> sink = invocation.getArgument(1);
+            sink.accept(taskResponse);
+            sink.accept(taskResponse);
+            return null;
+        }).when(taskService).export(eq(userId), any());
+
+
+        MvcResult result = mockMvc.perform(get("/api/tasks/export")
+                .header("X-USER-ID", userId.toString()))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        String line = objectMapper.writeValueAsString(taskResponse);
+        mockMvc.perform(asyncDispatch(result))
+                .andExpect(status().isOk())
+                .andExpect(content().contentType("application/x-ndjson"))
+                .andExpect(content().string(line + "\n" + line + "\n"));
+    }
+
+    @Test
+    @DisplayName("Should push committed changes to the task stream")
+    void stream_ShouldPushChanges() throws Exception {
+        MvcResult result = mockMvc.perform(get("/api/tasks/stream")
+                .header("X-USER-ID", userId.toString())
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted())
+                .andReturn();
+
+        events.publishEvent(new TaskChangedEvent(userId, TaskChangeType.UPDATED, 1L, taskResponse));
+        events.publishEvent(new TaskChangedEvent(UUID.randomUUID(), TaskChangeType.DELETED, 2L, null));
+
+        await().untilAsserted(() -> assertThat(result.getResponse().getContentAsString())
+                .contains("event:updated")
+                .contains("\"title\":\"Test Task\"")
+                .doesNotContain("event:deleted"));
+        verify(taskService, never()).getAll(any());
+    }
+
+    @Test
+    @DisplayName("Should render only the requested fields from the summary projection")
+    void getTasks_ShouldRenderSparseFieldset() throws Exception {
+        when(taskService.getSummaries(userId)).thenReturn(List.of(
+                new TaskSummary(1L, "Test Task", TaskStatus.TODO, Instant.now(), Instant.now(), 1L, 0L)));
+
+        mockMvc.perform(get("/api/tasks")
+                .header("X-USER-ID", userId.toString())
+                .param("fields", "title,status"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1L))
+                .andExpect(jsonPath("$.data[0].title").value("Test Task"))
+                .andExpect(jsonPath("$.data[0].status").value("TODO"))
+                .andExpect(jsonPath("$.data[0].description").doesNotExist())
+                .andExpect(jsonPath("$.data[0].createdAt").doesNotExist())
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASKS_RETRIEVED));
+
+        verify(taskService, never()).getAll(any());
+    }
+
+    @Test
+    @DisplayName("Should reject unknown fields")
+    void getTasks_ShouldRejectUnknownField() throws Exception {
+        mockMvc.perform(get("/api/tasks")
+                .header("X-USER-ID", userId.toString())
+                .param("fields", "title,secret"))
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    @DisplayName("Should return a page of search results")
+    void search_ShouldReturnPage() throws Exception {
+        when(taskService.search(userId, "report", 20, null))
+                .thenReturn(new TaskPage(List.of(taskResponse), "next", true));
+
+        mockMvc.perform(get("/api/tasks/search")
+                .header("X-USER-ID", userId.toString())
+                .param("q", "report")
+                .param("limit", "20"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.items[0].id").value(1L))
+                .andExpect(jsonPath("$.data.nextCursor").value("next"))
+                .andExpect(jsonPath("$.data.hasNext").value(true));
+    }
+
+    @Test
+    @DisplayName("Should return status counts")
+    void getStats_ShouldReturnCounts() throws Exception {
+        when(taskService.getStats(userId)).thenReturn(new TaskStats(
+                Map.of(TaskStatus.TODO, 2L, TaskStatus.DOING, 1L, TaskStatus.DONE, 0L), 3));
+
+        mockMvc.perform(get("/api/tasks/stats")
+                .header("X-USER-ID", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data.byStatus.TODO").value(2))
+                .andExpect(jsonPath("$.data.total").value(3))
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASK_STATS_RETRIEVED));
+        verify(taskService, never()).getAll(any());
+    }
+
     @Test
     @DisplayName("Should get task by id")
     void getTask_ShouldReturnTask() throws Exception {
@@ -133,6 +330,83 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.type").value(MessageType.SUCCESS.toString()));
     }
 
+    @Test
+    @DisplayName("Should return the task version as ETag")
+    void getTask_ShouldReturnETag() throws Exception {
+
+        when(taskService.getById(userId, 1L)).thenReturn(taskResponse);
+
+
+        mockMvc.perform(get("/api/tasks/{id}", 1L)
+                .header("X-USER-ID", userId.toString()))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""));
+    }
+
+    @Test
+    @DisplayName("Should answer 404 with the missing id in the message")
+    void getTask_ShouldReturnNotFound() throws Exception {
+
+        when(taskService.getById(userId, 7L))
+                .thenThrow(new ResourceNotFoundException(ApiMessage.TASK_NOT_FOUND, 7L));
+
+
+        mockMvc.perform(get("/api/tasks/{id}", 7L)
+                .header("X-USER-ID", userId.toString()))
+                .andExpect(status().isNotFound())
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASK_NOT_FOUND + " 7"))
+                .andExpect(jsonPath("$.type").value(MessageType.ERROR.toString()));
+    }
+
+    @Test
+    @DisplayName("Should return not modified when If-None-Match matches the version")
+    void getTask_ShouldReturnNotModifiedWhenETagMatches() throws Exception {
+
+        when(taskService.getById(userId, 1L)).thenReturn(new TaskResponse(1L, "Test Task", null, TaskStatus.TODO,
+                Instant.now(), Instant.now(), 1L, 4L));
+
+
+        mockMvc.perform(get("/api/tasks/{id}", 1L)
+                .header("X-USER-ID", userId.toString())
+                .header("If-None-Match", "W/\"4\""))
+                .andExpect(status().isNotModified())
+                .andExpect(header().string("ETag", "\"4\""))
+                .andExpect(content().string(""));
+    }
+
+    @Test
+    @DisplayName("Should load the task once when If-None-Match does not match")
+    void getTask_ShouldLoadOnceWhenETagDiffers() throws Exception {
+
+        when(taskService.getById(userId, 1L)).thenReturn(taskResponse);
+
+
+        mockMvc.perform(get("/api/tasks/{id}", 1L)
+                .header("X-USER-ID", userId.toString())
+                .header("If-None-Match", "\"3\""))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.data.id").value(1));
+        verify(taskService, times(1)).getById(userId, 1L);
+    }
+
+    @Test
+    @DisplayName("Should pass the If-Match version to the service and answer 412 on mismatch")
+    void update_ShouldReturnPreconditionFailedOnStaleIfMatch() throws Exception {
+
+        when(taskService.update(eq(userId), eq(1L), any(TaskUpsertRequest.class), eq(2L)))
+                .thenThrow(new PreconditionFailedException(ApiMessage.TASK_VERSION_MISMATCH));
+
+
+        mockMvc.perform(put("/api/tasks/{id}", 1L)
+                .header("X-USER-ID", userId.toString())
+                .header("If-Match", "\"2\"")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskUpsertRequest)))
+                .andExpect(status().isPreconditionFailed())
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASK_VERSION_MISMATCH));
+    }
+
     @Test
     @DisplayName("Should create a new task")
     void create_ShouldCreateTask() throws Exception {
@@ -152,6 +426,26 @@ class TaskControllerTest {
                 .andExpect(jsonPath("$.type").value(MessageType.SUCCESS.toString()));
     }
 
+    @Test
+    @DisplayName("Should hand creates with an Idempotency-Key to the replay store")
+    void create_WithIdempotencyKey_ShouldUseReplayStore() throws Exception {
+        byte[] stored = objectMapper.writeValueAsBytes(Map.of("message", ApiMessage.TASK_CREATED));
+        when(idempotency.execute(eq(userId), eq("retry-1"), eq(taskUpsertRequest), any()))
+                .thenReturn(ResponseEntity.status(HttpStatus.CREATED).contentType(MediaType.APPLICATION_JSON)
+                        .header(TaskIdempotency.REPLAYED_HEADER, "true").body(stored));
+
+        mockMvc.perform(post("/api/tasks")
+                .header("X-USER-ID", userId.toString())
+                .header(TaskIdempotency.HEADER, "retry-1")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(taskUpsertRequest)))
+                .andExpect(status().isCreated())
+                .andExpect(header().string(TaskIdempotency.REPLAYED_HEADER, "true"))
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASK_CREATED));
+
+        verify(taskService, never()).create(any(), any());
+    }
+
     @Test
     @DisplayName("Should return bad request when creating task with invalid data")
     void create_ShouldReturnBadRequestForInvalidData() throws Exception {
@@ -171,6 +465,42 @@ class TaskControllerTest {
                 .andExpect(status().isBadRequest());
     }
 
+    @Test
+    @DisplayName("Should process a batch and report per-item results")
+    void batch_ShouldReturnPerItemResults() throws Exception {
+
+        TaskBatchRequest batchRequest = new TaskBatchRequest(List.of(
+                new TaskBatchOperation(TaskBatchAction.CREATE, null, taskUpsertRequest),
+                new TaskBatchOperation(TaskBatchAction.DELETE, 9L, null)));
+        when(taskService.batch(eq(userId), any())).thenReturn(List.of(
+                new TaskBatchResult(0, TaskBatchAction.CREATE, 1L, taskResponse, ApiMessage.TASK_CREATED,
+                        MessageType.SUCCESS),
+                new TaskBatchResult(1, TaskBatchAction.DELETE, 9L, null, ApiMessage.TASK_NOT_FOUND,
+                        MessageType.ERROR)));
+
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .header("X-USER-ID", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(batchRequest)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(1L))
+                .andExpect(jsonPath("$.data[0].type").value("SUCCESS"))
+                .andExpect(jsonPath("$.data[1].type").value("ERROR"))
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASKS_BATCH_PROCESSED));
+    }
+
+    @Test
+    @DisplayName("Should reject an empty batch")
+    void batch_ShouldRejectEmptyBatch() throws Exception {
+
+        mockMvc.perform(post("/api/tasks/batch")
+                .header("X-USER-ID", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(new TaskBatchRequest(List.of()))))
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     @DisplayName("Should update task status")
     void updateStatus_ShouldUpdateStatus() throws Exception {
@@ -183,10 +513,11 @@ class TaskControllerTest {
                 TaskStatus.DOING,
                 Instant.now(),
                 Instant.now(),
-                1L
+                1L,
+                0L
         );
 
-        when(taskService.updateStatus(eq(userId), eq(taskId), eq(TaskStatus.DOING)))
+        when(taskService.updateStatus(eq(userId), eq(taskId), eq(TaskStatus.DOING), isNull()))
                 .thenReturn(updatedResponse);
 
         
@@ -196,6 +527,7 @@ class TaskControllerTest {
                 .content(objectMapper.writeValueAsString(statusUpdateRequest)))
                 .andExpect(status().isOk())
                 .andExpect(content().contentType(MediaType.APPLICATION_JSON))
+                .andExpect(jsonPath("$.data.status").value("DOING"))
                 .andExpect(jsonPath("$.message").value(ApiMessage.TASK_UPDATED))
                 .andExpect(jsonPath("$.type").value(MessageType.SUCCESS.toString()));
     }
@@ -233,10 +565,11 @@ class TaskControllerTest {
                 TaskStatus.DONE,
                 Instant.now(),
                 Instant.now(),
-                2L
+                2L,
+                0L
         );
 
-        when(taskService.update(eq(userId), eq(taskId), any(TaskUpsertRequest.class)))
+        when(taskService.update(eq(userId), eq(taskId), any(TaskUpsertRequest.class), isNull()))
                 .thenReturn(updatedResponse);
 
         
@@ -256,6 +589,22 @@ class TaskControllerTest {
 
      
 
+    @Test
+    @DisplayName("Should move task between neighbours")
+    void move_ShouldMoveTask() throws Exception {
+        TaskMoveRequest moveRequest = new TaskMoveRequest(2L, 3L, null);
+        when(taskService.move(eq(userId), eq(1L), eq(moveRequest))).thenReturn(taskResponse);
+
+        mockMvc.perform(post("/api/tasks/{id}/move", 1L)
+                .header("X-USER-ID", userId.toString())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(objectMapper.writeValueAsString(moveRequest)))
+                .andExpect(status().isOk())
+                .andExpect(header().string("ETag", "\"0\""))
+                .andExpect(jsonPath("$.data.id").value(1L))
+                .andExpect(jsonPath("$.message").value(ApiMessage.TASK_MOVED));
+    }
+
     @Test
     @DisplayName("Should delete task")
     void delete_ShouldDeleteTask() throws Exception {
@@ -0,0 +1,196 @@
+package com.taskmanager.task.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.common.response.ApiMessage;
+import com.taskmanager.task.application.TaskJpaTest;
+import com.taskmanager.task.domain.TaskIdempotencyKey;
+import com.taskmanager.task.domain.TaskIdempotencyKeyRepository;
+
+@TaskJpaTest
+@Import({ TaskIdempotency.class, JacksonAutoConfiguration.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TaskIdempotency Tests")
+class TaskIdempotencyTest {
+
+	@Autowired
+	private TaskIdempotency idempotency;
+
+	@MockitoSpyBean
+	private TaskIdempotencyKeyRepository keys;
+
+	private final AtomicInteger runs = new AtomicInteger();
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+	}
+
+	@AfterEach
+	void tearDown() {
+		keys.deleteAll();
+	}
+
+	@Test
+	@DisplayName("Should run a request once and replay its response to retries")
+	void execute_ShouldReplayRetries() {
+		var first = idempotency.execute(userId, "k1", Map.of("title", "A"), this::create);
+		var retry = idempotency.execute(userId, "k1", Map.of("title", "A"), this::create);
+
+		assertThat(runs).hasValue(1);
+		assertThat(first.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(retry.getStatusCode()).isEqualTo(HttpStatus.CREATED);
+		assertThat(retry.getHeaders().getFirst(TaskIdempotency.REPLAYED_HEADER)).isEqualTo("true");
+		assertThat(retry.getBody()).isEqualTo(first.getBody());
+	}
+
+	@Test
+	@DisplayName("Should reject a key reused for a different request")
+	void execute_ShouldRejectReusedKey() {
+		idempotency.execute(userId, "k1", Map.of("title", "A"), this::create);
+
+		assertThatThrownBy(() -> idempotency.execute(userId, "k1", Map.of("title", "B"), this::create))
+				.isInstanceOf(BadRequestException.class)
+				.hasMessage(ApiMessage.IDEMPOTENCY_KEY_REUSED);
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("Should release the key when the request fails")
+	void execute_ShouldReleaseKeyOnFailure() {
+		assertThatThrownBy(() -> idempotency.execute(userId, "k1", Map.of("title", "A"), () -> {
+			throw new IllegalStateException("boom");
+		})).isInstanceOf(IllegalStateException.class);
+
+		idempotency.execute(userId, "k1", Map.of("title", "A"), this::create);
+
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("Should run concurrent duplicates once and replay to the rest")
+	void execute_ShouldDeduplicateConcurrentRequests() throws Exception {
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<ResponseEntity<byte[]>>> responses = new ArrayList<>();
+			Callable<ResponseEntity<byte[]>> request = () -> idempotency.execute(userId, "k1", Map.of("title", "A"),
+					() -> {
+						sleep(50);
+						return create();
+					});
+			for (int i = 0; i < 8; i++) {
+				responses.add(executor.submit(request));
+			}
+			byte[] body = responses.get(0).get().getBody();
+			for (var response : responses) {
+				assertThat(response.get().getBody()).isEqualTo(body);
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("Should hold a same-node duplicate on the key's lock, before it opens a transaction")
+	void execute_ShouldQueueDuplicatesBeforeTheDatabase() throws Exception {
+		var running = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		var first = CompletableFuture.supplyAsync(() -> idempotency.execute(userId, "k1", Map.of("title", "A"), () -> {
+			running.countDown();
+			await(release);
+			return create();
+		}));
+		assertThat(running.await(5, TimeUnit.SECONDS)).isTrue();
+
+		var duplicate = CompletableFuture
+				.supplyAsync(() -> idempotency.execute(userId, "k1", Map.of("title", "A"), this::create));
+		sleep(100);
+		assertThat(duplicate).isNotDone();
+		verify(keys, times(1)).findById(new TaskIdempotencyKey.Key(userId, "k1"));
+
+		release.countDown();
+		assertThat(duplicate.get(5, TimeUnit.SECONDS).getHeaders().getFirst(TaskIdempotency.REPLAYED_HEADER))
+				.isEqualTo("true");
+		assertThat(first.get(5, TimeUnit.SECONDS).getBody()).isEqualTo(duplicate.get().getBody());
+		assertThat(runs).hasValue(1);
+	}
+
+	@Test
+	@DisplayName("Should run the request in the transaction that stores its key")
+	void execute_ShouldRunActionInKeyTransaction() {
+		idempotency.execute(userId, "k1", Map.of("title", "A"), () -> {
+			assertThat(TransactionSynchronizationManager.isActualTransactionActive()).isTrue();
+			assertThat(keys.findById(new TaskIdempotencyKey.Key(userId, "k1"))).isPresent();
+			return create();
+		});
+
+		assertThat(keys.findById(new TaskIdempotencyKey.Key(userId, "k1")).orElseThrow().getResponseBody())
+				.isNotNull();
+	}
+
+	@Test
+	@DisplayName("Should run the request again once its stored response expired")
+	void execute_ShouldRunAgainAfterExpiry() {
+		keys.save(TaskIdempotencyKey.builder().userId(userId).idempotencyKey("k1").requestHash("old")
+				.responseStatus(201).responseBody("{}").expiresAt(Instant.now().minusSeconds(1)).build());
+
+		var response = idempotency.execute(userId, "k1", Map.of("title", "A"), this::create);
+
+		assertThat(runs).hasValue(1);
+		assertThat(response.getHeaders().containsKey(TaskIdempotency.REPLAYED_HEADER)).isFalse();
+	}
+
+	private ResponseEntity<?> create() {
+		return ResponseEntity.status(HttpStatus.CREATED).body(Map.of("id", runs.incrementAndGet()));
+	}
+
+	private static void await(CountDownLatch latch) {
+		try {
+			latch.await(5, TimeUnit.SECONDS);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+
+	private static void sleep(long millis) {
+		try {
+			Thread.sleep(millis);
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+		}
+	}
+}
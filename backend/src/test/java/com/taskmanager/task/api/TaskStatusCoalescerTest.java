@@ -0,0 +1,162 @@
+package com.taskmanager.task.api;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+import static org.mockito.ArgumentMatchers.anyMap;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.inOrder;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.dao.OptimisticLockingFailureException;
+
+import com.taskmanager.task.application.TaskProperties;
+import com.taskmanager.task.application.TaskService;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskResponse;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TaskStatusCoalescer Unit Tests")
+class TaskStatusCoalescerTest {
+
+	private final TaskService service = mock(TaskService.class);
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final TaskProperties properties = new TaskProperties();
+	private final UUID userId = UUID.randomUUID();
+	private TaskStatusCoalescer coalescer;
+
+	@BeforeEach
+	void setUp() {
+		properties.getStatusCoalescing().setWindow(Duration.ofMinutes(1));
+		coalescer = new TaskStatusCoalescer(service, properties, registry);
+		when(service.getById(userId, 1L)).thenReturn(task(1L, TaskStatus.TODO, 3L));
+	}
+
+	@Test
+	@DisplayName("Should write only the last of several buffered changes")
+	void updateStatus_ShouldCoalesceChangesOfOneTask() {
+		properties.getStatusCoalescing().setDurability(TaskProperties.Durability.BUFFERED);
+		when(service.applyStatuses(userId, Map.of(1L, TaskStatus.DONE)))
+				.thenReturn(Map.of(1L, task(1L, TaskStatus.DONE, 4L)));
+
+		coalescer.updateStatus(userId, 1L, TaskStatus.DOING, null);
+		coalescer.updateStatus(userId, 1L, TaskStatus.TODO, null);
+		TaskResponse last = coalescer.updateStatus(userId, 1L, TaskStatus.DONE, null);
+		coalescer.flushAll();
+
+		assertThat(last.status()).isEqualTo(TaskStatus.DONE);
+		assertThat(last.version()).isEqualTo(4L);
+		verify(service, times(1)).getById(userId, 1L);
+		verify(service, times(1)).applyStatuses(userId, Map.of(1L, TaskStatus.DONE));
+		var coalesced = registry.get("tasks.status.coalesced").summary();
+		assertThat(coalesced.count()).isEqualTo(1);
+		assertThat(coalesced.totalAmount()).isEqualTo(3);
+	}
+
+	@Test
+	@DisplayName("Should write the last status even when it matches the row read at buffering, which may be stale")
+	void flush_ShouldWriteStatusMatchingReadRow() {
+		properties.getStatusCoalescing().setDurability(TaskProperties.Durability.BUFFERED);
+		when(service.applyStatuses(userId, Map.of(1L, TaskStatus.TODO)))
+				.thenReturn(Map.of(1L, task(1L, TaskStatus.TODO, 5L)));
+
+		TaskResponse response = coalescer.updateStatus(userId, 1L, TaskStatus.TODO, null);
+		coalescer.flush(userId);
+
+		assertThat(response.status()).isEqualTo(TaskStatus.TODO);
+		verify(service, times(1)).applyStatuses(userId, Map.of(1L, TaskStatus.TODO));
+	}
+
+	@Test
+	@DisplayName("Should answer a flushed-durability change only once its flush committed")
+	void updateStatus_ShouldWaitForFlush() {
+		TaskResponse written = task(1L, TaskStatus.DOING, 4L);
+		when(service.applyStatuses(userId, Map.of(1L, TaskStatus.DOING))).thenReturn(Map.of(1L, written));
+
+		var response = CompletableFuture.supplyAsync(() -> coalescer.updateStatus(userId, 1L, TaskStatus.DOING, null));
+		await().until(() -> registry.get("tasks.status.coalescing.pending").gauge().value() == 1);
+		assertThat(response).isNotDone();
+		coalescer.flushAll();
+
+		assertThat(response.join()).isEqualTo(written);
+	}
+
+	@Test
+	@DisplayName("Should flush the user's buffer and then write conditional changes synchronously")
+	void updateStatus_ShouldBypassBufferWithIfMatch() {
+		properties.getStatusCoalescing().setDurability(TaskProperties.Durability.BUFFERED);
+		when(service.applyStatuses(userId, Map.of(1L, TaskStatus.DOING)))
+				.thenReturn(Map.of(1L, task(1L, TaskStatus.DOING, 4L)));
+		coalescer.updateStatus(userId, 1L, TaskStatus.DOING, null);
+
+		coalescer.updateStatus(userId, 1L, TaskStatus.DONE, 4L);
+
+		var order = inOrder(service);
+		order.verify(service).applyStatuses(userId, Map.of(1L, TaskStatus.DOING));
+		order.verify(service).updateStatus(userId, 1L, TaskStatus.DONE, 4L);
+		assertThat(registry.get("tasks.status.coalescing.bypassed").tag("reason", "if-match").counter().count())
+				.isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should fall back to one synchronous write per task when the batch fails")
+	void flush_ShouldRetryTasksOneByOneWhenBatchFails() {
+		properties.getStatusCoalescing().setDurability(TaskProperties.Durability.BUFFERED);
+		when(service.getById(userId, 2L)).thenReturn(task(2L, TaskStatus.TODO, 0L));
+		when(service.applyStatuses(eq(userId), anyMap())).thenThrow(new OptimisticLockingFailureException("stale"));
+		coalescer.updateStatus(userId, 1L, TaskStatus.DOING, null);
+		coalescer.updateStatus(userId, 2L, TaskStatus.DONE, null);
+
+		coalescer.flush(userId);
+
+		verify(service).updateStatus(userId, 1L, TaskStatus.DOING, null);
+		verify(service).updateStatus(userId, 2L, TaskStatus.DONE, null);
+	}
+
+	@Test
+	@DisplayName("Should make other requests of the user wait for a flush that is still committing")
+	void flush_ShouldWaitForFlushInFlight() throws Exception {
+		properties.getStatusCoalescing().setDurability(TaskProperties.Durability.BUFFERED);
+		CountDownLatch writing = new CountDownLatch(1);
+		CountDownLatch commit = new CountDownLatch(1);
+		when(service.applyStatuses(userId, Map.of(1L, TaskStatus.DONE))).thenAnswer(invocation -> {
+			writing.countDown();
+			commit.await();
+			return Map.of(1L, task(1L, TaskStatus.DONE, 4L));
+		});
+		coalescer.updateStatus(userId, 1L, TaskStatus.DONE, null);
+		var scheduled = CompletableFuture.runAsync(coalescer::flushAll);
+		writing.await();
+
+		var read = CompletableFuture.runAsync(() -> coalescer.flush(userId));
+		var change = CompletableFuture.supplyAsync(() -> coalescer.updateStatus(userId, 1L, TaskStatus.TODO, null));
+		Thread.sleep(100);
+		assertThat(read).isNotDone();
+		assertThat(change).isNotDone();
+
+		when(service.getById(userId, 1L)).thenReturn(task(1L, TaskStatus.DONE, 4L));
+		commit.countDown();
+		scheduled.join();
+		read.join();
+
+		// the second change sees the committed DONE, so it is not mistaken for a no-op
+		assertThat(change.join().version()).isEqualTo(5L);
+	}
+
+	private static TaskResponse task(Long id, TaskStatus status, long version) {
+		return new TaskResponse(id, "Task " + id, null, status, Instant.EPOCH, Instant.EPOCH, 1L, version);
+	}
+}
@@ -0,0 +1,96 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.taskmanager.common.response.MessageType;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskBatchAction;
+import com.taskmanager.task.dto.TaskBatchOperation;
+import com.taskmanager.task.dto.TaskBatchResult;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@TaskJpaTest
+@DisplayName("TaskService batch round-trip Tests")
+class TaskBatchRoundTripTest {
+
+	private static final int TASKS = 200;
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should need an order of magnitude fewer statements than one create per request")
+	void batch_ShouldCutStatementRoundTrips() {
+		statistics.clear();
+		for (int i = 0; i < TASKS; i++) {
+			service.create(request(i), userId);
+			entityManager.flush();
+			entityManager.clear();
+		}
+		long single = statistics.getPrepareStatementCount();
+
+		statistics.clear();
+		List<TaskBatchOperation> operations = IntStream.range(0, TASKS)
+				.mapToObj(i -> new TaskBatchOperation(TaskBatchAction.CREATE, null, request(i))).toList();
+		List<TaskBatchResult> results = service.batch(userId, operations);
+		long batched = statistics.getPrepareStatementCount();
+
+		assertThat(results).hasSize(TASKS).allMatch(result -> result.type() == MessageType.SUCCESS);
+		assertThat(batched * 10).isLessThanOrEqualTo(single);
+	}
+
+	@Test
+	@DisplayName("Should apply updates and deletes and report missing tasks per item")
+	void batch_ShouldReportPerItemResults() {
+		Long first = service.create(request(1), userId).id();
+		Long second = service.create(request(2), userId).id();
+		entityManager.flush();
+		entityManager.clear();
+
+		List<TaskBatchResult> results = service.batch(userId, List.of(
+				new TaskBatchOperation(TaskBatchAction.UPDATE, first,
+						new TaskUpsertRequest("Renamed", null, TaskStatus.DONE, 5L)),
+				new TaskBatchOperation(TaskBatchAction.DELETE, second, null),
+				new TaskBatchOperation(TaskBatchAction.DELETE, 999_999L, null),
+				new TaskBatchOperation(TaskBatchAction.CREATE, null, null)));
+		entityManager.clear();
+
+		assertThat(results).extracting(TaskBatchResult::type).containsExactly(MessageType.SUCCESS,
+				MessageType.SUCCESS, MessageType.ERROR, MessageType.ERROR);
+		assertThat(results.get(0).task().title()).isEqualTo("Renamed");
+		assertThat(service.getAll(userId)).extracting("id").containsExactly(first);
+	}
+
+	private TaskUpsertRequest request(int i) {
+		return new TaskUpsertRequest("Task " + i, "Description " + i, TaskStatus.TODO, (long) i);
+	}
+}
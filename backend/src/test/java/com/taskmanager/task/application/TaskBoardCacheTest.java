@@ -0,0 +1,166 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.doAnswer;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.cache.CacheType;
+import org.springframework.boot.test.autoconfigure.core.AutoConfigureCache;
+import org.springframework.cache.CacheManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoSpyBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.task.domain.TaskRepository;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@TaskJpaTest
+@AutoConfigureCache(cacheProvider = CacheType.CAFFEINE)
+@Import({ CacheConfig.class, TaskBoardVersions.class })
+// boards are evicted when the write's transaction commits
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("TaskService board cache Tests")
+class TaskBoardCacheTest {
+
+	@Autowired
+	private TaskService service;
+
+	@MockitoSpyBean
+	private TaskRepository repository;
+
+	@Autowired
+	private TaskBoardVersions boardVersions;
+
+	@Autowired
+	private CacheManager cacheManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		userId = UUID.randomUUID();
+		cacheManager.getCache(CacheConfig.TASK_BOARDS).clear();
+	}
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("Should serve repeated board reads from the cache")
+	void getAll_ShouldHitCacheOnSecondRead() {
+		service.create(request("First"), userId);
+
+		statistics.clear();
+		List<TaskResponse> first = service.getAll(userId);
+		List<TaskResponse> second = service.getAll(userId);
+
+		assertThat(second).isSameAs(first);
+		assertThat(statistics.getQueryExecutionCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should load boards to cache in a read-write transaction, which replica routing keeps on the primary")
+	void getAll_ShouldLoadOnPrimary() {
+		var readOnly = new AtomicReference<Boolean>();
+		doAnswer(invocation -> {
+			readOnly.set(TransactionSynchronizationManager.isCurrentTransactionReadOnly());
+			return List.of();
+		}).when(repository).findResponsesByUserId(userId);
+
+		service.getAll(userId);
+
+		assertThat(readOnly).hasValue(false);
+	}
+
+	@Test
+	@DisplayName("Should make an eviction wait for a board load already in flight, so the load cannot put it back")
+	void invalidate_ShouldWaitForInFlightLoad() throws Exception {
+		var loading = new CountDownLatch(1);
+		var release = new CountDownLatch(1);
+		doAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return List.of();
+		}).when(repository).findResponsesByUserId(userId);
+		var load = CompletableFuture.runAsync(() -> service.getAll(userId));
+		assertThat(loading.await(5, TimeUnit.SECONDS)).isTrue();
+
+		var eviction = CompletableFuture.runAsync(() -> boardVersions.invalidate(userId));
+		Thread.sleep(100);
+		assertThat(eviction).isNotDone();
+
+		release.countDown();
+		load.get(5, TimeUnit.SECONDS);
+		eviction.get(5, TimeUnit.SECONDS);
+		assertThat(cacheManager.getCache(CacheConfig.TASK_BOARDS).get(userId)).isNull();
+	}
+
+	@Test
+	@DisplayName("Should evict only the written user's board")
+	void create_ShouldEvictOwnBoardOnly() {
+		UUID otherUser = UUID.randomUUID();
+		service.getAll(userId);
+		service.getAll(otherUser);
+
+		service.create(request("New"), userId);
+
+		var cache = cacheManager.getCache(CacheConfig.TASK_BOARDS);
+		assertThat(cache.get(userId)).isNull();
+		assertThat(cache.get(otherUser)).isNotNull();
+		assertThat(service.getAll(userId)).extracting(TaskResponse::title).containsExactly("New");
+	}
+
+	@Test
+	@DisplayName("Should evict the board when a task status changes")
+	void updateStatus_ShouldEvictBoard() {
+		Long id = service.create(request("Task"), userId).id();
+		service.getAll(userId);
+
+		service.updateStatus(userId, id, TaskStatus.DONE, null);
+
+		assertThat(service.getAll(userId)).extracting(TaskResponse::status).containsExactly(TaskStatus.DONE);
+	}
+
+	@Test
+	@DisplayName("Should evict the board before moving to the next version")
+	void invalidate_ShouldEvictBoardBeforeBumpingVersion() {
+		service.getAll(userId);
+		long version = boardVersions.current(userId);
+
+		boardVersions.invalidate(userId);
+
+		assertThat(boardVersions.current(userId)).isGreaterThan(version);
+		assertThat(cacheManager.getCache(CacheConfig.TASK_BOARDS).get(userId)).isNull();
+	}
+
+	private TaskUpsertRequest request(String title) {
+		return new TaskUpsertRequest(title, null, TaskStatus.TODO, 1L);
+	}
+}
@@ -0,0 +1,129 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.awaitility.Awaitility.await;
+
+import java.time.Duration;
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import com.taskmanager.WorkflowManagerApplication;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+import io.micrometer.core.instrument.MeterRegistry;
+
+/**
+ * Two application contexts sharing one PostgreSQL stand in for two nodes, e.g.
+ * {@code TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/task_manager_test}.
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DisplayName("Task cache coherence PostgreSQL Tests")
+class TaskCacheCoherenceIntegrationTest {
+
+	private static final Duration PROPAGATION = Duration.ofSeconds(5);
+
+	private static ConfigurableApplicationContext nodeA;
+	private static ConfigurableApplicationContext nodeB;
+
+	private UUID userId;
+
+	@BeforeAll
+	static void startNodes() {
+		nodeA = start();
+		nodeB = start();
+	}
+
+	@AfterAll
+	static void stopNodes() {
+		nodeA.close();
+		nodeB.close();
+	}
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should evict a board cached on one node when another node changes it")
+	void write_ShouldEvictBoardOnOtherNode() {
+		Long id = service(nodeA).create(request(), userId).id();
+		assertThat(service(nodeB).getAll(userId)).extracting(TaskResponse::status).containsExactly(TaskStatus.TODO);
+
+		service(nodeA).updateStatus(userId, id, TaskStatus.DONE, null);
+
+		await().atMost(PROPAGATION).untilAsserted(() -> assertThat(service(nodeB).getAll(userId))
+				.extracting(TaskResponse::status).containsExactly(TaskStatus.DONE));
+	}
+
+	@Test
+	@DisplayName("Should evict a task entity cached on one node when another node changes it")
+	void write_ShouldEvictEntityOnOtherNode() {
+		Long id = service(nodeA).create(request(), userId).id();
+		assertThat(service(nodeB).getById(userId, id).status()).isEqualTo(TaskStatus.TODO);
+
+		service(nodeA).updateStatus(userId, id, TaskStatus.DONE, null);
+
+		await().atMost(PROPAGATION).untilAsserted(
+				() -> assertThat(service(nodeB).getById(userId, id).status()).isEqualTo(TaskStatus.DONE));
+	}
+
+	@Test
+	@DisplayName("Should drop all cached boards when the listener reconnects")
+	void reconnect_ShouldResync() {
+		Long id = service(nodeA).create(request(), userId).id();
+		service(nodeB).getAll(userId);
+		double resyncs = resyncs(nodeB);
+
+		// changes made while the listeners are down are never notified to them
+		nodeA.getBean(JdbcTemplate.class).queryForList(
+				"select pg_terminate_backend(pid) from pg_stat_activity where application_name = ?",
+				TaskCacheListener.APPLICATION_NAME);
+		service(nodeA).updateStatus(userId, id, TaskStatus.DONE, null);
+
+		await().atMost(PROPAGATION).untilAsserted(() -> {
+			assertThat(resyncs(nodeB)).isGreaterThan(resyncs);
+			assertThat(service(nodeB).getAll(userId)).extracting(TaskResponse::status)
+					.containsExactly(TaskStatus.DONE);
+		});
+	}
+
+	private static ConfigurableApplicationContext start() {
+		return new SpringApplicationBuilder(WorkflowManagerApplication.class).run(
+				"--spring.datasource.url=" + System.getenv("TEST_POSTGRES_URL"),
+				"--spring.datasource.username=" + env("TEST_POSTGRES_USER", "postgres"),
+				"--spring.datasource.password=" + env("TEST_POSTGRES_PASSWORD", "admin"),
+				"--server.port=0",
+				"--app.tasks.coherence.enabled=true",
+				"--app.tasks.coherence.reconnect-delay=100ms",
+				"--spring.jpa.properties.hibernate.cache.use_second_level_cache=true");
+	}
+
+	private static String env(String name, String fallback) {
+		String value = System.getenv(name);
+		return value != null ? value : fallback;
+	}
+
+	private static TaskService service(ConfigurableApplicationContext node) {
+		return node.getBean(TaskService.class);
+	}
+
+	private static double resyncs(ConfigurableApplicationContext node) {
+		return node.getBean(MeterRegistry.class).get("tasks.cache.coherence.resyncs").counter().count();
+	}
+
+	private static TaskUpsertRequest request() {
+		return new TaskUpsertRequest("Task", null, TaskStatus.TODO, 1L);
+	}
+}
@@ -0,0 +1,122 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.ResultSetExtractor;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@DisplayName("TaskCacheNotifier Unit Tests")
+class TaskCacheNotifierTest {
+
+	private final JdbcTemplate jdbcTemplate = mock(JdbcTemplate.class);
+	private final ObjectMapper objectMapper = new ObjectMapper();
+	private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+	private final TaskCacheNotifier notifier = new TaskCacheNotifier(jdbcTemplate, objectMapper, registry);
+	private final UUID userId = UUID.randomUUID();
+
+	@Test
+	@DisplayName("Should send repeated changes to a task once, batched with the user's other tasks")
+	void flush_ShouldBatchAndDeduplicate() throws Exception {
+		UUID otherUser = UUID.randomUUID();
+		notifier.onTaskChanged(event(userId, 1L));
+		notifier.onTaskChanged(event(userId, 1L));
+		notifier.onTaskChanged(event(userId, 2L));
+		notifier.onTaskChanged(event(otherUser, 3L));
+
+		notifier.flush();
+
+		List<TaskCacheInvalidation> messages = sent(1);
+		assertThat(messages.get(0).origin()).isEqualTo(notifier.origin());
+		assertThat(messages.get(0).tasks()).containsOnlyKeys(userId, otherUser);
+		assertThat(messages.get(0).tasks().get(userId)).containsExactlyInAnyOrder(1L, 2L);
+		assertThat(messages.get(0).tasks().get(otherUser)).containsExactly(3L);
+		assertThat(registry.get("tasks.cache.coherence.messages").tag("direction", "sent").counter().count())
+				.isEqualTo(1);
+
+		notifier.flush();
+		verify(jdbcTemplate, times(1)).query(anyString(), extractor(), any(), any());
+	}
+
+	@Test
+	@DisplayName("Should split large batches to stay under the NOTIFY payload limit")
+	void flush_ShouldSplitLargeBatches() throws Exception {
+		int tasks = TaskCacheNotifier.MAX_TASKS_PER_MESSAGE * 2 + 1;
+		for (long taskId = 0; taskId < tasks; taskId++) {
+			notifier.onTaskChanged(event(userId, taskId));
+		}
+
+		notifier.flush();
+
+		List<TaskCacheInvalidation> messages = sent(3);
+		Set<Long> taskIds = new HashSet<>();
+		for (TaskCacheInvalidation message : messages) {
+			assertThat(message.tasks().get(userId)).hasSizeLessThanOrEqualTo(TaskCacheNotifier.MAX_TASKS_PER_MESSAGE);
+			taskIds.addAll(message.tasks().get(userId));
+		}
+		assertThat(taskIds).hasSize(tasks);
+	}
+
+	@Test
+	@DisplayName("Should keep changes that could not be sent for the next flush")
+	void flush_ShouldRetryFailedSends() throws Exception {
+		when(jdbcTemplate.query(anyString(), extractor(), any(), any()))
+				.thenThrow(new DataAccessResourceFailureException("down"))
+				.thenReturn(null);
+		notifier.onTaskChanged(event(userId, 1L));
+
+		notifier.flush();
+		notifier.flush();
+
+		List<TaskCacheInvalidation> messages = sent(2);
+		assertThat(messages.get(1).tasks().get(userId)).containsExactly(1L);
+	}
+
+	@Test
+	@DisplayName("Should send nothing when no task changed")
+	void flush_ShouldSkipEmptyBatches() {
+		notifier.flush();
+
+		verify(jdbcTemplate, never()).query(anyString(), extractor(), any(), any());
+	}
+
+	private List<TaskCacheInvalidation> sent(int times) throws Exception {
+		ArgumentCaptor<Object> payloads = ArgumentCaptor.forClass(Object.class);
+		verify(jdbcTemplate, times(times)).query(eq("select pg_notify(?, ?)"), extractor(),
+				eq(TaskCacheNotifier.CHANNEL), payloads.capture());
+		List<TaskCacheInvalidation> messages = new ArrayList<>();
+		for (Object payload : payloads.getAllValues()) {
+			messages.add(objectMapper.readValue((String) payload, TaskCacheInvalidation.class));
+		}
+		return messages;
+	}
+
+	private static ResultSetExtractor<Object> extractor() {
+		return any();
+	}
+
+	private TaskChangedEvent event(UUID userId, long taskId) {
+		return new TaskChangedEvent(userId, TaskChangeType.UPDATED, taskId, null);
+	}
+}
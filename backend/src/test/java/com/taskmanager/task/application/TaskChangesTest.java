@@ -0,0 +1,97 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskChanges;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+
+@TaskJpaTest
+@DisplayName("TaskService delta sync Tests")
+class TaskChangesTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TaskProperties properties;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		properties.getChanges().setOverlap(Duration.ZERO);
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should return the full board as a reset without a watermark")
+	void getChanges_ShouldResetWithoutWatermark() {
+		Long id = create("First");
+
+		TaskChanges changes = service.getChanges(userId, null);
+
+		assertThat(changes.reset()).isTrue();
+		assertThat(changes.changed()).extracting(TaskResponse::id).containsExactly(id);
+		assertThat(changes.next()).isNotBlank();
+	}
+
+	@Test
+	@DisplayName("Should return only writes and tombstones after the watermark")
+	void getChanges_ShouldReturnDeltaSinceWatermark() throws InterruptedException {
+		Long untouched = create("Untouched");
+		Long updated = create("Updated");
+		Long deleted = create("Deleted");
+		entityManager.flush();
+		String since = service.getChanges(userId, null).next();
+		Thread.sleep(2);
+
+		service.update(userId, updated, new TaskUpsertRequest("Renamed", null, TaskStatus.DONE, 1L), null);
+		service.delete(userId, deleted);
+		Long created = create("Created");
+		entityManager.flush();
+
+		TaskChanges changes = service.getChanges(userId, since);
+
+		assertThat(changes.reset()).isFalse();
+		assertThat(changes.changed()).extracting(TaskResponse::id).containsExactly(updated, created)
+				.doesNotContain(untouched);
+		assertThat(changes.deleted()).containsExactly(deleted);
+	}
+
+	@Test
+	@DisplayName("Should reset when the watermark is older than the tombstone retention")
+	void getChanges_ShouldResetExpiredWatermark() {
+		String since = new TaskWatermark(Instant.now().minus(Duration.ofDays(31))).encode();
+
+		assertThat(service.getChanges(userId, since).reset()).isTrue();
+	}
+
+	@Test
+	@DisplayName("Should reject a malformed watermark")
+	void getChanges_ShouldRejectMalformedWatermark() {
+		assertThatThrownBy(() -> service.getChanges(userId, "not-a-token"))
+				.isInstanceOf(BadRequestException.class);
+	}
+
+	private Long create(String title) {
+		return service.create(new TaskUpsertRequest(title, null, TaskStatus.TODO, 0L), userId).id();
+	}
+}
@@ -0,0 +1,77 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.UUID;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskRepository;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+/**
+ * With replicas on, read-only transactions may read a lagging replica; what
+ * they load must not outlive them in the entity cache.
+ */
+@TaskJpaTest
+@TestPropertySource(properties = { "spring.jpa.properties.hibernate.cache.use_second_level_cache=true",
+		"app.datasource.replicas.enabled=true" })
+@Import(CacheConfig.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Task entity cache with read replicas Tests")
+class TaskEntityCacheReplicaTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TaskRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private UUID userId;
+	private Long id;
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+		id = service.create(new TaskUpsertRequest("Task", null, TaskStatus.TODO, 1L), userId).id();
+		entityManagerFactory.getCache().evictAll();
+	}
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("Should not cache a task loaded by a read-only transaction")
+	void getById_ShouldNotCacheReplicaReads() {
+		assertThat(service.getById(userId, id).title()).isEqualTo("Task");
+
+		assertThat(entityManagerFactory.getCache().contains(Task.class, id)).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should cache a task loaded by a write, which runs on the primary")
+	void update_ShouldCachePrimaryReads() {
+		service.update(userId, id, new TaskUpsertRequest("Renamed", null, TaskStatus.TODO, 1L), null);
+
+		assertThat(entityManagerFactory.getCache().contains(Task.class, id)).isTrue();
+		assertThat(service.getById(userId, id).title()).isEqualTo("Renamed");
+	}
+}
@@ -0,0 +1,97 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.taskmanager.common.exception.ResourceNotFoundException;
+import com.taskmanager.config.CacheConfig;
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskRepository;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@TaskJpaTest
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.cache.use_second_level_cache=true")
+@Import(CacheConfig.class)
+// the cache is only written and invalidated when transactions complete
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@DisplayName("Task entity cache Tests")
+class TaskEntityCacheTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TaskRepository repository;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UUID userId;
+	private Long id;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		entityManagerFactory.getCache().evictAll();
+		userId = UUID.randomUUID();
+		id = service.create(new TaskUpsertRequest("Task", null, TaskStatus.TODO, 1L), userId).id();
+	}
+
+	@AfterEach
+	void tearDown() {
+		repository.deleteAll();
+	}
+
+	@Test
+	@DisplayName("Should serve a task read by id and owner from the entity cache")
+	void getById_ShouldHitEntityCacheOnSecondRead() {
+		service.getById(userId, id);
+
+		statistics.clear();
+		var task = service.getById(userId, id);
+
+		assertThat(task.title()).isEqualTo("Task");
+		assertThat(statistics.getPrepareStatementCount()).isZero();
+		assertThat(statistics.getDomainDataRegionStatistics(Task.CACHE_REGION).getHitCount()).isEqualTo(1);
+	}
+
+	@Test
+	@DisplayName("Should not serve a cached task to another user")
+	void getById_ShouldCheckOwnerOnCacheHit() {
+		service.getById(userId, id);
+
+		assertThat(entityManagerFactory.getCache().contains(Task.class, id)).isTrue();
+		assertThatThrownBy(() -> service.getById(UUID.randomUUID(), id))
+				.isInstanceOf(ResourceNotFoundException.class);
+	}
+
+	@Test
+	@DisplayName("Should not serve a cached task after it changed or was deleted")
+	void writes_ShouldInvalidateEntityCache() {
+		service.getById(userId, id);
+
+		service.updateStatus(userId, id, TaskStatus.DONE, null);
+		assertThat(service.getById(userId, id).status()).isEqualTo(TaskStatus.DONE);
+
+		service.delete(userId, id);
+		assertThatThrownBy(() -> service.getById(userId, id)).isInstanceOf(ResourceNotFoundException.class);
+	}
+}
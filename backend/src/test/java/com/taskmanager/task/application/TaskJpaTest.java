@@ -0,0 +1,32 @@
+package com.taskmanager.task.application;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+
+import com.taskmanager.task.mapper.TaskMapperImpl;
+
+/**
+ * A {@link DataJpaTest} with {@link TaskService} and its collaborators, on
+ * in-memory H2 with the schema generated from the entities rather than the
+ * PostgreSQL migrations, and Hibernate statistics on. Tests add their own
+ * beans with {@code @Import} and their own properties with
+ * {@code @TestPropertySource}.
+ */
+@Target(ElementType.TYPE)
+@Retention(RetentionPolicy.RUNTIME)
+@Documented
+@Inherited
+@DataJpaTest(properties = { "spring.jpa.database-platform=org.hibernate.dialect.H2Dialect",
+		"spring.jpa.hibernate.ddl-auto=create-drop", "spring.flyway.enabled=false",
+		"spring.jpa.properties.hibernate.generate_statistics=true", "spring.jpa.show-sql=false" })
+@Import({ TaskService.class, TaskBoardCache.class, TaskStatusCounts.class, TaskMapperImpl.class,
+		TaskProperties.class })
+public @interface TaskJpaTest {
+}
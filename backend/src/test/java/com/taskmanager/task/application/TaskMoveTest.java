@@ -0,0 +1,113 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import java.util.UUID;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskMoveRequest;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+import jakarta.persistence.EntityManagerFactory;
+
+@TaskJpaTest
+@DisplayName("TaskService move Tests")
+class TaskMoveTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private EntityManagerFactory entityManagerFactory;
+
+	private Statistics statistics;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should rank a task between its neighbours with a single row update")
+	void move_ShouldTakeMidpointRank() {
+		Long first = create("First", TaskStatus.TODO, 0L);
+		Long second = create("Second", TaskStatus.TODO, TaskService.RANK_GAP);
+		Long moved = create("Moved", TaskStatus.DOING, 0L);
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics.clear();
+		TaskResponse result = service.move(userId, moved, new TaskMoveRequest(first, second, null));
+		entityManager.clear();
+
+		assertThat(result.status()).isEqualTo(TaskStatus.TODO);
+		assertThat(result.order()).isEqualTo(TaskService.RANK_GAP / 2);
+		assertThat(statistics.getEntityUpdateCount()).isEqualTo(1);
+		assertThat(service.getAll(userId)).extracting(TaskResponse::id).containsExactly(first, moved, second);
+	}
+
+	@Test
+	@DisplayName("Should respace the lane when neighbours have adjacent ranks")
+	void move_ShouldRebalanceExhaustedLane() {
+		Long first = create("First", TaskStatus.TODO, 1L);
+		Long second = create("Second", TaskStatus.TODO, 2L);
+		Long third = create("Third", TaskStatus.TODO, 3L);
+		Long moved = create("Moved", TaskStatus.TODO, 4L);
+		entityManager.flush();
+		entityManager.clear();
+
+		TaskResponse result = service.move(userId, moved, new TaskMoveRequest(first, second, null));
+		entityManager.clear();
+
+		assertThat(service.getAll(userId)).extracting(TaskResponse::id).containsExactly(first, moved, second, third);
+		assertThat(service.getAll(userId)).extracting(TaskResponse::order).containsExactly(TaskService.RANK_GAP,
+				result.order(), 2 * TaskService.RANK_GAP, 3 * TaskService.RANK_GAP);
+	}
+
+	@Test
+	@DisplayName("Should reject inverted neighbours without respacing the lane")
+	void move_ShouldRejectInvertedNeighbours() {
+		Long first = create("First", TaskStatus.TODO, 1L);
+		Long second = create("Second", TaskStatus.TODO, 2L);
+		Long moved = create("Moved", TaskStatus.TODO, 3L);
+		entityManager.flush();
+		entityManager.clear();
+
+		statistics.clear();
+		assertThatThrownBy(() -> service.move(userId, moved, new TaskMoveRequest(second, first, null)))
+				.isInstanceOf(BadRequestException.class);
+
+		assertThat(statistics.getEntityUpdateCount()).isZero();
+		assertThat(service.getAll(userId)).extracting(TaskResponse::order).containsExactly(1L, 2L, 3L);
+	}
+
+	@Test
+	@DisplayName("Should reject neighbours outside the target lane")
+	void move_ShouldRejectNeighboursInOtherLane() {
+		Long todo = create("Todo", TaskStatus.TODO, 1L);
+		Long moved = create("Moved", TaskStatus.TODO, 2L);
+
+		assertThatThrownBy(() -> service.move(userId, moved, new TaskMoveRequest(todo, null, TaskStatus.DONE)))
+				.isInstanceOf(BadRequestException.class);
+	}
+
+	private Long create(String title, TaskStatus status, Long order) {
+		return service.create(new TaskUpsertRequest(title, null, status, order), userId).id();
+	}
+}
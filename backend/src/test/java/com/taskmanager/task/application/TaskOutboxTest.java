@@ -0,0 +1,106 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.jackson.JacksonAutoConfiguration;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.Sort;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanager.task.domain.TaskEvent;
+import com.taskmanager.task.domain.TaskEventRepository;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+
+@TaskJpaTest
+@Import({ TaskOutbox.class, JacksonAutoConfiguration.class })
+@DisplayName("Task outbox Tests")
+class TaskOutboxTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TaskEventRepository repository;
+
+	@Autowired
+	private TaskProperties properties;
+
+	@Autowired
+	private TransactionTemplate transactions;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private final List<List<TaskEvent>> published = new ArrayList<>();
+	private TaskEventDispatcher dispatcher;
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		properties.getOutbox().setBatchSize(2);
+		dispatcher = new TaskEventDispatcher(repository, transactions, properties, List.of(published::add));
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should record every mutation in the writing transaction")
+	void mutations_ShouldWriteOutboxRows() {
+		Long id = service.create(request("Created", TaskStatus.TODO), userId).id();
+		service.updateStatus(userId, id, TaskStatus.DOING, null);
+		service.update(userId, id, request("Renamed", TaskStatus.DONE), null);
+		service.delete(userId, id);
+		entityManager.flush();
+
+		List<TaskEvent> events = repository.findAll(Sort.by("id"));
+		assertThat(events).extracting(TaskEvent::getType).containsExactly("CREATED", "UPDATED", "UPDATED", "DELETED");
+		assertThat(events).allMatch(event -> event.getTaskId().equals(id) && event.getUserId().equals(userId));
+		assertThat(events.get(2).getPayload()).contains("\"title\":\"Renamed\"");
+		assertThat(events.get(3).getPayload()).isNull();
+	}
+
+	@Test
+	@DisplayName("Should dispatch in batches and delete what was dispatched")
+	void dispatchBatch_ShouldDrainInBatches() {
+		for (int i = 0; i < 3; i++) {
+			service.create(request("Task " + i, TaskStatus.TODO), userId);
+		}
+		entityManager.flush();
+
+		assertThat(dispatcher.dispatchBatch()).isEqualTo(2);
+		assertThat(dispatcher.dispatchBatch()).isEqualTo(1);
+		assertThat(dispatcher.dispatchBatch()).isZero();
+
+		assertThat(published).hasSize(2);
+		assertThat(published.stream().flatMap(List::stream).map(TaskEvent::getId).toList()).isSorted();
+		assertThat(repository.count()).isZero();
+	}
+
+	@Test
+	@DisplayName("Should keep events while no sink is deployed")
+	void dispatchBatch_ShouldKeepEventsWithoutSinks() {
+		var unconsumed = new TaskEventDispatcher(repository, transactions, properties, List.of());
+		service.create(request("Task", TaskStatus.TODO), userId);
+		entityManager.flush();
+
+		unconsumed.start();
+
+		assertThat(unconsumed.isRunning()).isFalse();
+		assertThat(unconsumed.dispatchBatch()).isZero();
+		assertThat(repository.count()).isEqualTo(1);
+	}
+
+	private TaskUpsertRequest request(String title, TaskStatus status) {
+		return new TaskUpsertRequest(title, null, status, 0L);
+	}
+}
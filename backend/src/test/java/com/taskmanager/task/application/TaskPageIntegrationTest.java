@@ -0,0 +1,97 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskStatus;
+
+/**
+ * Checks the plans of the keyset page queries against a real PostgreSQL
+ * migrated by Flyway, e.g.
+ * {@code TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/task_manager_test}.
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DataJpaTest(properties = { "spring.datasource.url=${TEST_POSTGRES_URL}",
+		"spring.datasource.username=${TEST_POSTGRES_USER:postgres}",
+		"spring.datasource.password=${TEST_POSTGRES_PASSWORD:admin}",
+		"spring.jpa.hibernate.ddl-auto=validate", "spring.jpa.show-sql=false" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@DisplayName("Task keyset page PostgreSQL plan Tests")
+class TaskPageIntegrationTest {
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+		Instant now = Instant.now();
+		for (int i = 0; i < 500; i++) {
+			entityManager.persist(Task.builder().userId(userId).title("Task " + i)
+					.status(TaskStatus.values()[i % 3]).order(i % 7 == 0 ? null : (long) i)
+					.createdAt(now).updatedAt(now).build());
+		}
+		entityManager.flush();
+		// small tables would otherwise be read sequentially whatever the indexes
+		entityManager.getEntityManager().createNativeQuery("analyze tasks").executeUpdate();
+		entityManager.getEntityManager().createNativeQuery("set local enable_seqscan = off").executeUpdate();
+		entityManager.getEntityManager().createNativeQuery("set local enable_bitmapscan = off").executeUpdate();
+	}
+
+	@Test
+	@DisplayName("Should seek the board's next page on one index range, without sorting")
+	void findPageAfter_ShouldSeekIndexInOrder() {
+		String plan = explain("""
+				select * from tasks where user_id = ?1 and (order_task, id) > (?2, ?3)
+				order by order_task asc, id asc limit 51""");
+
+		assertThat(plan).contains("Index Cond").contains("ROW(order_task, id) > ROW(").doesNotContain("Sort");
+	}
+
+	@Test
+	@DisplayName("Should seek a lane's next page on one index range, without sorting")
+	void findLanePageAfter_ShouldSeekIndexInOrder() {
+		String plan = explain("""
+				select * from tasks where user_id = ?1 and status = 'TODO' and (order_task, id) > (?2, ?3)
+				order by order_task asc, id asc limit 51""");
+
+		assertThat(plan).contains("Index Cond").contains("ROW(order_task, id) > ROW(").doesNotContain("Sort");
+	}
+
+	@Test
+	@DisplayName("Should read the board's first page in index order, unordered tasks last")
+	void findFirstPage_ShouldReadIndexInOrder() {
+		String plan = explain("""
+				select * from tasks where user_id = ?1
+				order by order_task asc nulls last, id asc limit 51""");
+
+		assertThat(plan).contains("Index Cond").doesNotContain("Sort");
+	}
+
+	/** The same SQL the page queries send, with the cursor of the 200th task. */
+	private String explain(String sql) {
+		var query = entityManager.getEntityManager().createNativeQuery("explain " + sql).setParameter(1, userId);
+		if (sql.contains("?2")) {
+			query.setParameter(2, 200L).setParameter(3, 0L);
+		}
+		StringBuilder plan = new StringBuilder();
+		for (Object line : query.getResultList()) {
+			plan.append(line).append('\n');
+		}
+		return plan.toString();
+	}
+}
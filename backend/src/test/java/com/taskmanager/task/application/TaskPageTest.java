@@ -0,0 +1,97 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskPage;
+import com.taskmanager.task.dto.TaskResponse;
+
+
+@TaskJpaTest
+@DisplayName("TaskService keyset page Tests")
+class TaskPageTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private UUID userId;
+	private List<Long> ordered;
+	private List<Long> unordered;
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+		ordered = new ArrayList<>();
+		unordered = new ArrayList<>();
+		for (int i = 0; i < 12; i++) {
+			// pairs share an order, so the id breaks ties
+			ordered.add(persist(TaskStatus.values()[i % 3], (long) (i / 2)));
+		}
+		for (int i = 0; i < 5; i++) {
+			unordered.add(persist(TaskStatus.values()[i % 3], null));
+		}
+		persist(UUID.randomUUID(), TaskStatus.TODO, 0L);
+		entityManager.flush();
+		entityManager.clear();
+	}
+
+	@Test
+	@DisplayName("Should walk the board in order, unordered tasks last, without gaps or repeats")
+	void getPage_ShouldWalkBoard() {
+		List<Long> expected = new ArrayList<>(ordered);
+		expected.addAll(unordered);
+
+		assertThat(walk(null, 5)).containsExactlyElementsOf(expected);
+	}
+
+	@Test
+	@DisplayName("Should walk one lane across the boundary between ordered and unordered tasks")
+	void getPage_ShouldWalkLane() {
+		List<Long> expected = new ArrayList<>();
+		for (int i = 0; i < ordered.size(); i += 3) {
+			expected.add(ordered.get(i));
+		}
+		for (int i = 0; i < unordered.size(); i += 3) {
+			expected.add(unordered.get(i));
+		}
+
+		assertThat(walk(TaskStatus.TODO, 3)).containsExactlyElementsOf(expected);
+	}
+
+	private List<Long> walk(TaskStatus status, int limit) {
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			TaskPage page = service.getPage(userId, status, limit, cursor);
+			page.items().forEach(task -> seen.add(task.id()));
+			assertThat(page.items()).extracting(TaskResponse::id).hasSizeLessThanOrEqualTo(limit);
+			cursor = page.nextCursor();
+		} while (cursor != null);
+		return seen;
+	}
+
+	private Long persist(TaskStatus status, Long order) {
+		return persist(userId, status, order);
+	}
+
+	private Long persist(UUID owner, TaskStatus status, Long order) {
+		Instant now = Instant.now();
+		return entityManager.persistAndFlush(Task.builder().userId(owner).title("Task").status(status)
+				.order(order).createdAt(now).updatedAt(now).build()).getId();
+	}
+}
@@ -0,0 +1,97 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfEnvironmentVariable;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.context.annotation.Import;
+
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskPage;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+import com.taskmanager.task.mapper.TaskMapperImpl;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+/**
+ * Runs against a real PostgreSQL migrated by Flyway, e.g.
+ * {@code TEST_POSTGRES_URL=jdbc:postgresql://localhost:5432/task_manager_test}.
+ */
+@EnabledIfEnvironmentVariable(named = "TEST_POSTGRES_URL", matches = ".+")
+@DataJpaTest(properties = { "spring.datasource.url=${TEST_POSTGRES_URL}",
+		"spring.datasource.username=${TEST_POSTGRES_USER:postgres}",
+		"spring.datasource.password=${TEST_POSTGRES_PASSWORD:admin}",
+		"spring.jpa.hibernate.ddl-auto=validate", "spring.jpa.show-sql=false" })
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ TaskService.class, TaskBoardCache.class, TaskStatusCounts.class, SimpleMeterRegistry.class,
+		TaskMapperImpl.class, TaskProperties.class })
+@DisplayName("TaskService PostgreSQL search Tests")
+class TaskSearchIntegrationTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should rank title matches above description matches")
+	void search_ShouldRankTitleFirst() {
+		Long inDescription = create("Groceries", "Remember the quarterly report");
+		Long inTitle = create("Quarterly report", "Numbers for finance");
+		create("Holiday", "Book flights");
+		create("Reports", "Someone else's", UUID.randomUUID());
+		entityManager.flush();
+
+		TaskPage page = service.search(userId, "quarterly report", 10, null);
+
+		assertThat(page.items()).extracting(TaskResponse::id).containsExactly(inTitle, inDescription);
+		assertThat(page.hasNext()).isFalse();
+	}
+
+	@Test
+	@DisplayName("Should walk all hits with the keyset cursor without gaps or repeats")
+	void search_ShouldPageThroughHits() {
+		List<Long> ids = new ArrayList<>();
+		for (int i = 0; i < 25; i++) {
+			ids.add(create("Review " + i, i % 2 == 0 ? "review review" : null));
+		}
+		entityManager.flush();
+
+		List<Long> seen = new ArrayList<>();
+		String cursor = null;
+		do {
+			TaskPage page = service.search(userId, "review", 10, cursor);
+			page.items().forEach(task -> seen.add(task.id()));
+			cursor = page.nextCursor();
+		} while (cursor != null);
+
+		assertThat(seen).doesNotHaveDuplicates().containsExactlyInAnyOrderElementsOf(ids);
+	}
+
+	private Long create(String title, String description) {
+		return create(title, description, userId);
+	}
+
+	private Long create(String title, String description, UUID owner) {
+		return service.create(new TaskUpsertRequest(title, description, TaskStatus.TODO, 0L), owner).id();
+	}
+}
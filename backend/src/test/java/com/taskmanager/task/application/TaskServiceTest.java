@@ -1,18 +1,26 @@
 package com.taskmanager.task.application;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.Mockito.never;
-import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.Instant;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
@@ -20,14 +28,25 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.PageRequest;
 
+import jakarta.persistence.EntityManager;
+
+import com.taskmanager.common.exception.BadRequestException;
+import com.taskmanager.common.exception.PreconditionFailedException;
 import com.taskmanager.common.exception.ResourceNotFoundException;
 import com.taskmanager.common.response.ApiMessage;
 import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskDeletionRepository;
 import com.taskmanager.task.domain.TaskRepository;
+import com.taskmanager.task.domain.TaskSearchHit;
 import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.dto.TaskPage;
 import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskSummary;
 import com.taskmanager.task.dto.TaskUpsertRequest;
 import com.taskmanager.task.mapper.TaskMapper;
 
@@ -38,9 +57,27 @@ class TaskServiceTest {
 	@Mock
 	private TaskRepository repository;
 
+	@Mock
+	private TaskDeletionRepository deletions;
+
 	@Mock
 	private TaskMapper mapper;
 
+	@Mock
+	private EntityManager entityManager;
+
+	@Spy
+	private TaskProperties properties = new TaskProperties();
+
+	@Mock
+	private ApplicationEventPublisher events;
+
+	@Mock
+	private TaskStatusCounts statusCounts;
+
+	@Mock
+	private TaskBoardCache boards;
+
 	@InjectMocks
 	private TaskService service;
 
@@ -56,7 +93,7 @@ class TaskServiceTest {
 				.status(TaskStatus.TODO).order(1L).createdAt(Instant.now()).updatedAt(Instant.now()).build();
 
 		taskResponse = new TaskResponse(1L, "Test Task", "Test Description", TaskStatus.TODO, Instant.now(),
-				Instant.now(), 1L);
+				Instant.now(), 1L, 0L);
 
 		taskUpsertRequest = new TaskUpsertRequest("Test Task", "Test Description", TaskStatus.TODO, 1L);
 	}
@@ -64,31 +101,43 @@ class TaskServiceTest {
 	@Test
 	@DisplayName("Should retrieve all tasks for a user")
 	void getAll_ShouldReturnListOfTasks() {
-		List<Task> tasks = List.of(task);
-		when(repository.findByUserIdOrderByOrder(userId)).thenReturn(tasks);
-		when(mapper.toResponse(task)).thenReturn(taskResponse);
+		when(repository.findResponsesByUserId(userId)).thenReturn(List.of(taskResponse));
+
+		loadBoardsUncached();
 
 		List<TaskResponse> result = service.getAll(userId);
 
 		assertNotNull(result);
 		assertEquals(1, result.size());
 		assertEquals(taskResponse, result.get(0));
-		verify(repository).findByUserIdOrderByOrder(userId);
-		verify(mapper).toResponse(task);
+		verify(repository).findResponsesByUserId(userId);
+		verify(mapper, never()).toResponse(any());
 	}
 
 	@Test
 	@DisplayName("Should return empty list when user has no tasks")
 	void getAll_ShouldReturnEmptyList() {
-		when(repository.findByUserIdOrderByOrder(userId)).thenReturn(List.of());
+		when(repository.findResponsesByUserId(userId)).thenReturn(List.of());
+
+		loadBoardsUncached();
 
 		List<TaskResponse> result = service.getAll(userId);
 
 		assertNotNull(result);
-		verify(repository).findByUserIdOrderByOrder(userId);
+		verify(repository).findResponsesByUserId(userId);
 		verify(mapper, never()).toResponse(any());
 	}
 
+	@Test
+	@DisplayName("Should read summaries without descriptions")
+	void getSummaries_ShouldUseSummaryProjection() {
+		TaskSummary summary = new TaskSummary(1L, "Test Task", TaskStatus.TODO, null, null, 1L, 0L);
+		when(repository.findSummariesByUserId(userId)).thenReturn(List.of(summary));
+
+		assertEquals(List.of(summary), service.getSummaries(userId));
+		verify(repository, never()).findResponsesByUserId(any());
+	}
+
 	@Test
 	@DisplayName("Should retrieve task by id and user id")
 	void getById_ShouldReturnTask() {
@@ -150,13 +199,13 @@ class TaskServiceTest {
 				.status(newStatus).order(1L).createdAt(Instant.now()).updatedAt(Instant.now()).build();
 
 		TaskResponse updatedResponse = new TaskResponse(taskId, "Test Task", "Test Description", newStatus,
-				Instant.now(), Instant.now(), 1L);
+				Instant.now(), Instant.now(), 1L, 0L);
 
 		when(repository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(task));
 		when(repository.save(any(Task.class))).thenReturn(updatedTask);
 		when(mapper.toResponse(updatedTask)).thenReturn(updatedResponse);
 
-		TaskResponse result = service.updateStatus(userId, taskId, newStatus);
+		TaskResponse result = service.updateStatus(userId, taskId, newStatus, null);
 
 		assertNotNull(result);
 		assertEquals(newStatus, result.status());
@@ -173,12 +222,65 @@ class TaskServiceTest {
 		TaskStatus newStatus = TaskStatus.DOING;
 		when(repository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
-		assertThatThrownBy(() -> service.updateStatus(userId, taskId, newStatus))
+		assertThatThrownBy(() -> service.updateStatus(userId, taskId, newStatus, null))
 				.isInstanceOf(ResourceNotFoundException.class).hasMessageContaining(ApiMessage.TASK_NOT_FOUND);
 		verify(repository).findByIdAndUserId(taskId, userId);
 		verify(repository, never()).save(any());
 	}
 
+	@Test
+	@DisplayName("Should update status in a single statement when that mode is enabled")
+	void updateStatus_ShouldUseSingleStatementMode() {
+		Long taskId = 1L;
+		properties.setStatusUpdateMode(TaskProperties.StatusUpdateMode.SINGLE_STATEMENT);
+		when(repository.updateStatusReturning(eq(taskId), eq(userId), eq("DONE"), any(Instant.class), isNull()))
+				.thenReturn(Optional.of(task));
+		when(mapper.toResponse(task)).thenReturn(taskResponse);
+
+		TaskResponse result = service.updateStatus(userId, taskId, TaskStatus.DONE, null);
+
+		assertEquals(taskResponse, result);
+		verify(repository, never()).findByIdAndUserId(any(Long.class), any());
+		verify(repository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("Should throw ResourceNotFoundException when the single-statement update matches no row")
+	void updateStatus_ShouldThrowWhenSingleStatementMatchesNothing() {
+		Long taskId = 999L;
+		properties.setStatusUpdateMode(TaskProperties.StatusUpdateMode.SINGLE_STATEMENT);
+		when(repository.updateStatusReturning(eq(taskId), eq(userId), eq("DOING"), any(Instant.class), isNull()))
+				.thenReturn(Optional.empty());
+
+		assertThatThrownBy(() -> service.updateStatus(userId, taskId, TaskStatus.DOING, null))
+				.isInstanceOf(ResourceNotFoundException.class).hasMessageContaining(ApiMessage.TASK_NOT_FOUND);
+	}
+
+	@Test
+	@DisplayName("Should reject an update when the expected version is stale")
+	void update_ShouldThrowWhenVersionDoesNotMatch() {
+		Long taskId = 1L;
+		task.setVersion(3L);
+		when(repository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(task));
+
+		assertThatThrownBy(() -> service.update(userId, taskId, taskUpsertRequest, 2L))
+				.isInstanceOf(PreconditionFailedException.class).hasMessage(ApiMessage.TASK_VERSION_MISMATCH);
+		verify(repository, never()).save(any());
+	}
+
+	@Test
+	@DisplayName("Should report a version mismatch when the single-statement update skips an existing task")
+	void updateStatus_ShouldThrowPreconditionFailedWhenSingleStatementVersionIsStale() {
+		Long taskId = 1L;
+		properties.setStatusUpdateMode(TaskProperties.StatusUpdateMode.SINGLE_STATEMENT);
+		when(repository.updateStatusReturning(eq(taskId), eq(userId), eq("DONE"), any(Instant.class), eq(2L)))
+				.thenReturn(Optional.empty());
+		when(repository.existsByIdAndUserId(taskId, userId)).thenReturn(true);
+
+		assertThatThrownBy(() -> service.updateStatus(userId, taskId, TaskStatus.DONE, 2L))
+				.isInstanceOf(PreconditionFailedException.class);
+	}
+
 	@Test
 	@DisplayName("Should update task")
 	void update_ShouldUpdateTask() {
@@ -191,13 +293,13 @@ class TaskServiceTest {
 				.updatedAt(Instant.now()).build();
 
 		TaskResponse updatedResponse = new TaskResponse(taskId, "Updated Task", "Updated Description", TaskStatus.DONE,
-				Instant.now(), Instant.now(), 2L);
+				Instant.now(), Instant.now(), 2L, 0L);
 
 		when(repository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.of(task));
 		when(repository.save(any(Task.class))).thenReturn(updatedTask);
 		when(mapper.toResponse(any(Task.class))).thenReturn(updatedResponse);
 
-		TaskResponse result = service.update(userId, taskId, updateRequest);
+		TaskResponse result = service.update(userId, taskId, updateRequest, null);
 
 		assertNotNull(result);
 		assertEquals("Updated Task", result.title());
@@ -215,7 +317,7 @@ class TaskServiceTest {
 		Long taskId = 999L;
 		when(repository.findByIdAndUserId(taskId, userId)).thenReturn(Optional.empty());
 
-		assertThatThrownBy(() -> service.update(userId, taskId, taskUpsertRequest))
+		assertThatThrownBy(() -> service.update(userId, taskId, taskUpsertRequest, null))
 				.isInstanceOf(ResourceNotFoundException.class).hasMessageContaining(ApiMessage.TASK_NOT_FOUND);
 		verify(repository).findByIdAndUserId(taskId, userId);
 		verify(repository, never()).save(any());
@@ -231,6 +333,9 @@ class TaskServiceTest {
 
 		verify(repository).findByIdAndUserId(taskId, userId);
 		verify(repository).delete(task);
+		verify(deletions).save(argThat(tombstone -> tombstone.getTaskId().equals(taskId)));
+		verify(statusCounts).transition(userId, task.getStatus(), null);
+		verify(events).publishEvent(new TaskChangedEvent(userId, TaskChangeType.DELETED, taskId, null));
 	}
 
 	@Test
@@ -253,18 +358,112 @@ class TaskServiceTest {
 		Task task2 = Task.builder().id(2L).userId(userId).title("Task 2").status(TaskStatus.TODO).order(2L).build();
 		Task task3 = Task.builder().id(3L).userId(userId).title("Task 3").status(TaskStatus.TODO).order(3L).build();
 
-		List<Task> tasks = List.of(task1, task2, task3);
-		when(repository.findByUserIdOrderByOrder(userId)).thenReturn(tasks);
-		when(mapper.toResponse(any(Task.class))).thenAnswer(invocation -> {
-			Task t = invocation.getArgument(0);
-			return new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(), t.getCreatedAt(),
-					t.getUpdatedAt(), t.getOrder());
-		});
+		List<TaskResponse> rows = List.of(task1, task2, task3).stream()
+				.map(t -> new TaskResponse(t.getId(), t.getTitle(), t.getDescription(), t.getStatus(), t.getCreatedAt(),
+						t.getUpdatedAt(), t.getOrder(), t.getVersion()))
+				.toList();
+		when(repository.findResponsesByUserId(userId)).thenReturn(rows);
+
+		loadBoardsUncached();
 
 		List<TaskResponse> result = service.getAll(userId);
 
 		assertEquals(3, result.size());
-		verify(repository).findByUserIdOrderByOrder(userId);
-		verify(mapper, times(3)).toResponse(any(Task.class));
+		assertEquals(List.of(1L, 2L, 3L), result.stream().map(TaskResponse::id).toList());
+		verify(repository).findResponsesByUserId(userId);
+		verify(mapper, never()).toResponse(any(Task.class));
+	}
+
+	@Test
+	@DisplayName("Should return first page with a cursor when more tasks exist")
+	void getPage_ShouldReturnFirstPageWithCursor() {
+		Task task1 = Task.builder().id(1L).userId(userId).title("Task 1").status(TaskStatus.TODO).order(100L).build();
+		Task task2 = Task.builder().id(2L).userId(userId).title("Task 2").status(TaskStatus.TODO).order(200L).build();
+		Task task3 = Task.builder().id(3L).userId(userId).title("Task 3").status(TaskStatus.TODO).order(300L).build();
+		when(repository.findFirstPage(userId, TaskStatus.TODO, PageRequest.ofSize(3)))
+				.thenReturn(List.of(task1, task2, task3));
+		when(mapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+
+		TaskPage result = service.getPage(userId, TaskStatus.TODO, 2, null);
+
+		assertEquals(2, result.items().size());
+		assertTrue(result.hasNext());
+		assertEquals(new TaskCursor(200L, 2L), TaskCursor.decode(result.nextCursor()));
+	}
+
+	@Test
+	@DisplayName("Should continue after the cursor position")
+	void getPage_ShouldSeekAfterCursor() {
+		String cursor = new TaskCursor(200L, 2L).encode();
+		when(repository.findPageAfter(eq(userId), eq(null), eq(200L), eq(2L), any()))
+				.thenReturn(List.of(task));
+		when(mapper.toResponse(task)).thenReturn(taskResponse);
+
+		TaskPage result = service.getPage(userId, null, 10, cursor);
+
+		assertEquals(1, result.items().size());
+		assertFalse(result.hasNext());
+		assertNull(result.nextCursor());
+	}
+
+	@Test
+	@DisplayName("Should seek among unordered tasks when the cursor has no order")
+	void getPage_ShouldSeekUnorderedTasksAfterNullOrderCursor() {
+		String cursor = new TaskCursor(null, 7L).encode();
+		when(repository.findUnorderedPageAfter(eq(userId), eq(null), eq(7L), any())).thenReturn(List.of());
+
+		TaskPage result = service.getPage(userId, null, null, cursor);
+
+		assertTrue(result.items().isEmpty());
+		verify(repository, never()).findPageAfter(any(), any(), any(Long.class), any(Long.class), any());
+	}
+
+	@Test
+	@DisplayName("Should page search hits by rank and id")
+	void search_ShouldReturnPageWithRankCursor() {
+		Task task2 = Task.builder().id(2L).userId(userId).title("Task 2").status(TaskStatus.TODO).build();
+		when(repository.search(userId, "report", 0.5f, 9L, 2))
+				.thenReturn(List.of(new TaskSearchHit(task, 0.4f), new TaskSearchHit(task2, 0.3f)));
+		when(mapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+
+		TaskPage result = service.search(userId, "report", 1, new TaskSearchCursor(0.5f, 9L).encode());
+
+		assertEquals(1, result.items().size());
+		assertTrue(result.hasNext());
+		assertEquals(new TaskSearchCursor(0.4f, task.getId()), TaskSearchCursor.decode(result.nextCursor()));
+	}
+
+	@Test
+	@DisplayName("Should reject a blank search query")
+	void search_ShouldRejectBlankQuery() {
+		assertThatThrownBy(() -> service.search(userId, " ", null, null))
+				.isInstanceOf(BadRequestException.class).hasMessage(ApiMessage.INVALID_SEARCH_QUERY);
+		verify(repository, never()).search(any(), any(), any(), any(), any(Integer.class));
+	}
+
+	@Test
+	@DisplayName("Should reject a malformed cursor")
+	void getPage_ShouldRejectMalformedCursor() {
+		assertThatThrownBy(() -> service.getPage(userId, null, 10, "not-a-cursor"))
+				.isInstanceOf(BadRequestException.class).hasMessage(ApiMessage.INVALID_CURSOR);
+	}
+
+	@Test
+	@DisplayName("Should stream tasks to the sink and detach each one")
+	void export_ShouldStreamAndDetachTasks() {
+		Task task2 = Task.builder().id(2L).userId(userId).title("Task 2").status(TaskStatus.DONE).order(2L).build();
+		when(repository.streamByUserIdOrderByOrder(userId)).thenReturn(Stream.of(task, task2));
+		when(mapper.toResponse(any(Task.class))).thenReturn(taskResponse);
+		List<TaskResponse> written = new ArrayList<>();
+
+		service.export(userId, written::add);
+
+		assertEquals(2, written.size());
+		verify(entityManager).detach(task);
+		verify(entityManager).detach(task2);
+	}
+
+	private void loadBoardsUncached() {
+		when(boards.get(eq(userId), any())).thenAnswer(invocation -> invocation.<Supplier<?>>getArgument(1).get());
 	}
 }
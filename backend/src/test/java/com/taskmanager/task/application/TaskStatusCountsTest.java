@@ -0,0 +1,162 @@
+package com.taskmanager.task.application;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import com.taskmanager.task.domain.Task;
+import com.taskmanager.task.domain.TaskRepository;
+import com.taskmanager.task.domain.TaskStatus;
+import com.taskmanager.task.domain.TaskStatusCountRepository;
+import com.taskmanager.task.dto.TaskBatchAction;
+import com.taskmanager.task.dto.TaskBatchOperation;
+import com.taskmanager.task.dto.TaskMoveRequest;
+import com.taskmanager.task.dto.TaskResponse;
+import com.taskmanager.task.dto.TaskStats;
+import com.taskmanager.task.dto.TaskUpsertRequest;
+
+
+@TaskJpaTest
+@DisplayName("Task status counts Tests")
+class TaskStatusCountsTest {
+
+	@Autowired
+	private TaskService service;
+
+	@Autowired
+	private TaskStatusCounts statusCounts;
+
+	@Autowired
+	private TaskStatusCountRepository repository;
+
+	@Autowired
+	private TestEntityManager entityManager;
+
+	@Autowired
+	private TaskRepository tasks;
+
+	@Autowired
+	private PlatformTransactionManager transactionManager;
+
+	private UUID userId;
+
+	@BeforeEach
+	void setUp() {
+		userId = UUID.randomUUID();
+	}
+
+	@Test
+	@DisplayName("Should report zero counts for a user without tasks")
+	void getStats_ShouldBeEmptyForNewUser() {
+		TaskStats stats = service.getStats(userId);
+
+		assertThat(stats.total()).isZero();
+		assertThat(stats.byStatus()).containsOnlyKeys(TaskStatus.values()).allSatisfy((status, count) -> assertThat(count).isZero());
+	}
+
+	@Test
+	@DisplayName("Should follow creates, status transitions, moves, batches and deletes")
+	void writes_ShouldKeepCountsCurrent() {
+		Long first = create(TaskStatus.TODO);
+		Long second = create(TaskStatus.TODO);
+		Long third = create(TaskStatus.TODO);
+
+		service.updateStatus(userId, first, TaskStatus.DOING, null);
+		service.update(userId, second, new TaskUpsertRequest("Done", null, TaskStatus.DONE, 1L), null);
+		service.move(userId, third, new TaskMoveRequest(first, null, null));
+		service.batch(userId, List.of(
+				new TaskBatchOperation(TaskBatchAction.CREATE, null, new TaskUpsertRequest("New", null, TaskStatus.TODO, 0L)),
+				new TaskBatchOperation(TaskBatchAction.DELETE, second, null)));
+		service.delete(userId, first);
+		entityManager.flush();
+		entityManager.clear();
+
+		TaskStats stats = service.getStats(userId);
+		assertThat(stats.byStatus()).containsEntry(TaskStatus.TODO, 1L).containsEntry(TaskStatus.DOING, 1L)
+				.containsEntry(TaskStatus.DONE, 0L);
+		assertThat(stats.total()).isEqualTo(2);
+	}
+
+	@Test
+	@DisplayName("Should write coalesced statuses once each and count only net transitions")
+	void applyStatuses_ShouldWriteFinalStatuses() {
+		Long moved = create(TaskStatus.TODO);
+		Long returned = create(TaskStatus.TODO);
+		entityManager.flush();
+
+		Map<Long, TaskResponse> written = service.applyStatuses(userId,
+				Map.of(moved, TaskStatus.DONE, returned, TaskStatus.TODO, -1L, TaskStatus.DOING));
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(written).containsOnlyKeys(moved, returned);
+		assertThat(written.get(moved).status()).isEqualTo(TaskStatus.DONE);
+		assertThat(written.get(moved).version()).isEqualTo(1L);
+		assertThat(written.get(returned).version()).isEqualTo(1L);
+		assertThat(service.getStats(userId).byStatus()).containsEntry(TaskStatus.TODO, 1L)
+				.containsEntry(TaskStatus.DOING, 0L).containsEntry(TaskStatus.DONE, 1L);
+	}
+
+	@Test
+	@DisplayName("Should rebuild drifted counters from tasks")
+	void reconcile_ShouldRepairDrift() {
+		create(TaskStatus.TODO);
+		create(TaskStatus.DONE);
+		entityManager.flush();
+		repository.findByUserId(userId).forEach(count -> count.setTaskCount(42));
+		entityManager.flush();
+		entityManager.clear();
+
+		statusCounts.reconcile();
+		entityManager.flush();
+		entityManager.clear();
+
+		assertThat(service.getStats(userId).byStatus()).containsEntry(TaskStatus.TODO, 1L)
+				.containsEntry(TaskStatus.DOING, 0L).containsEntry(TaskStatus.DONE, 1L);
+	}
+
+	@Test
+	@DisplayName("Should seed missing counter rows from the user's committed tasks")
+	// committed, like tasks written before the counters existed
+	@Transactional(propagation = Propagation.NOT_SUPPORTED)
+	void delete_ShouldSeedCountersFromExistingTasks() {
+		var committed = new TransactionTemplate(transactionManager);
+		committed.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+		Long id = committed.execute(tx -> {
+			tasks.save(task(TaskStatus.DONE));
+			return tasks.save(task(TaskStatus.TODO)).getId();
+		});
+		try {
+			service.delete(userId, id);
+
+			assertThat(service.getStats(userId).byStatus()).containsEntry(TaskStatus.TODO, 0L)
+					.containsEntry(TaskStatus.DOING, 0L).containsEntry(TaskStatus.DONE, 1L);
+		} finally {
+			committed.executeWithoutResult(tx -> {
+				tasks.deleteAll(tasks.findByUserIdOrderByOrder(userId));
+				repository.deleteAll(repository.findByUserId(userId));
+			});
+		}
+	}
+
+	private Task task(TaskStatus status) {
+		return Task.builder().userId(userId).title("Task").status(status).order(0L).build();
+	}
+
+	private Long create(TaskStatus status) {
+		return service.create(new TaskUpsertRequest("Task", null, status, 0L), userId).id();
+	}
+}
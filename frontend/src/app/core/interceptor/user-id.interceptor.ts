@@ -1,18 +1,29 @@
-import { HttpInterceptorFn } from "@angular/common/http";
+import { HttpInterceptorFn, HttpResponse } from "@angular/common/http";
 import { inject } from "@angular/core";
+import { tap } from "rxjs";
 import { UserContextService } from "../user/user-context.service";
 
+const LAST_WRITE_HEADER = 'X-Last-Write';
+
 export const UserIdInterceptor: HttpInterceptorFn = (req, next) => {
   const userContext = inject(UserContextService);
 
   const userId = userContext.userId();
   if (userId) {
+    const lastWrite = userContext.lastWrite();
     const clonedReq = req.clone({
-      setHeaders: {
-        'X-User-ID': userId
-      }
+      setHeaders: lastWrite
+        ? { 'X-User-ID': userId, [LAST_WRITE_HEADER]: lastWrite }
+        : { 'X-User-ID': userId }
     });
-    return next(clonedReq);
+    return next(clonedReq).pipe(
+      tap(event => {
+        const stamp = event instanceof HttpResponse ? event.headers.get(LAST_WRITE_HEADER) : null;
+        if (stamp) {
+          userContext.lastWrite.set(stamp);
+        }
+      })
+    );
   }
   return next(req);
-};
\ No newline at end of file
+};
@@ -9,4 +9,6 @@ import { Injectable, signal } from "@angular/core";
 })
 export class UserContextService {
     readonly userId = signal('a3f1c9e4-7c8b-4b1a-9f9d-12c3e8b45a21');
-}
\ No newline at end of file
+    /** Time of the user's last write, as stamped by the backend; sent back so reads see it on any node. */
+    readonly lastWrite = signal<string | null>(null);
+}